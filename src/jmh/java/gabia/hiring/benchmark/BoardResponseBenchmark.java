@@ -0,0 +1,95 @@
+package gabia.hiring.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gabia.hiring.domain.board.dto.BoardResponse;
+import gabia.hiring.domain.board.dto.BoardSummaryResponse;
+import gabia.hiring.domain.board.entity.Board;
+import gabia.hiring.domain.board.entity.BoardType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 게시판 DTO 변환 및 JSON 직렬화 비용 측정 (10 / 1,000 / 100,000 건)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BoardResponseBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private List<Board> boards;
+    private List<BoardResponse> responses;
+    private List<BoardSummaryResponse> summaries;
+
+    @Setup
+    public void setUp() {
+        // 애플리케이션과 같은 설정(JavaTimeModule 등)의 ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        boards = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Board board = Board.builder()
+                    .title("백엔드 개발자 채용 공고 " + i)
+                    .content("가비아에서 함께 성장할 백엔드 개발자를 모집합니다. ".repeat(10))
+                    .boardType(BoardType.BOARD_PUBLIC)
+                    .build();
+            ReflectionTestUtils.setField(board, "id", (long) i);
+            ReflectionTestUtils.setField(board, "userId", (long) (i % 100));
+            ReflectionTestUtils.setField(board, "createdAt", now.minusMinutes(i));
+            ReflectionTestUtils.setField(board, "updatedAt", now.minusMinutes(i));
+            boards.add(board);
+        }
+
+        responses = mapResponses();
+        summaries = mapSummaries();
+    }
+
+    @Benchmark
+    public List<BoardResponse> mapResponses() {
+        return boards.stream()
+                .map(board -> new BoardResponse(board))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<BoardSummaryResponse> mapSummaries() {
+        return boards.stream()
+                .map(BoardSummaryResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaries() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaries);
+    }
+}
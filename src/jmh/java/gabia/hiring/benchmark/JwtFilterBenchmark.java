@@ -0,0 +1,98 @@
+package gabia.hiring.benchmark;
+
+import gabia.hiring.domain.user.entity.Role;
+import gabia.hiring.global.security.dto.UserPrincipal;
+import gabia.hiring.global.security.jwt.AuthFailureLog;
+import gabia.hiring.global.security.jwt.JwtFilter;
+import gabia.hiring.global.security.jwt.JwtFilterMetrics;
+import gabia.hiring.global.security.jwt.JwtTokenProvider;
+import gabia.hiring.global.security.jwt.RevokedTokenRegistry;
+import gabia.hiring.global.security.jwt.VerifiedTokenCache;
+import gabia.hiring.global.security.service.CustomUserDetailsService;
+import gabia.hiring.global.security.service.PrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 한 번 통과 비용 측정 (DB 대신 고정 사용자를 반환하는 stub 사용)
+ * - statelessClaims=true : 토큰 클레임으로 인증 객체 생성
+ * - statelessClaims=false: PrincipalCache 를 거쳐 인증 객체 생성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean statelessClaims;
+
+    private JwtFilter jwtFilter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        UserPrincipal principal = new UserPrincipal(1L, "user@gabia.com", Role.USER);
+
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                JwtTokenProviderBenchmark.SECRET, 1800, 1209600, statelessClaims, new VerifiedTokenCache(10_000));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PrincipalCache principalCache = new PrincipalCache(
+                new StubUserDetailsService(principal), meterRegistry, 300, 10_000);
+
+        jwtFilter = new JwtFilter(jwtTokenProvider, principalCache, new JwtFilterMetrics(meterRegistry),
+                new RevokedTokenRegistry(), new AuthFailureLog(meterRegistry));
+        authorizationHeader = "Bearer " + jwtTokenProvider.generateAccessToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Benchmark
+    public Object doFilter() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/board/1");
+        request.addHeader("Authorization", authorizationHeader);
+
+        try {
+            jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    // DB 조회 없이 고정 사용자를 반환하는 UserDetailsService
+    static class StubUserDetailsService extends CustomUserDetailsService {
+
+        private final UserPrincipal principal;
+
+        StubUserDetailsService(UserPrincipal principal) {
+            super(null);
+            this.principal = principal;
+        }
+
+        @Override
+        public UserPrincipal loadPrincipalByEmail(String email) {
+            return principal;
+        }
+    }
+}
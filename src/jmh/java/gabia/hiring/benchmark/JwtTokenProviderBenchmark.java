@@ -0,0 +1,76 @@
+package gabia.hiring.benchmark;
+
+import gabia.hiring.domain.user.entity.Role;
+import gabia.hiring.global.security.dto.UserPrincipal;
+import gabia.hiring.global.security.jwt.JwtTokenProvider;
+import gabia.hiring.global.security.jwt.VerifiedToken;
+import gabia.hiring.global.security.jwt.VerifiedTokenCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 토큰 생성/검증 비용 측정
+ * - 캐시 적중: 같은 토큰으로 반복 호출하는 클라이언트
+ * - 캐시 미스: 매번 HMAC 서명 검증과 클레임 파싱 수행
+ * - legacy: 기존 필터처럼 validateToken + getUsernameFromToken 을 따로 호출
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtTokenProviderBenchmark {
+
+    static final String SECRET = "pDwF8VnKD3T7NvpRa6faErQBfZVzVRj2NkcXKoqXBLuD3uFemMYtimf86nQqgbYs0F6t4zTYpBtq7319d";
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private Authentication authentication;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = new JwtTokenProvider(SECRET, 1800, 1209600, true, new VerifiedTokenCache(10_000));
+        uncachedProvider = new JwtTokenProvider(SECRET, 1800, 1209600, true, new VerifiedTokenCache(0));
+
+        UserPrincipal principal = new UserPrincipal(1L, "user@gabia.com", Role.USER);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        accessToken = cachedProvider.generateAccessToken(authentication);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return cachedProvider.generateAccessToken(authentication);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return cachedProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyUncached() {
+        return uncachedProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public String validateAndGetUsernameUncached() {
+        if (uncachedProvider.validateToken(accessToken)) {
+            return uncachedProvider.getUsernameFromToken(accessToken);
+        }
+        return null;
+    }
+}
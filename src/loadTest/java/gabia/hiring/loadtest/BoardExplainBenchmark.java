@@ -0,0 +1,186 @@
+package gabia.hiring.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 복합 인덱스 추가 전/후 실행 계획 비교 (MariaDB)
+ * - before: IGNORE INDEX 로 복합 인덱스를 쓰지 못하게 한 쿼리 (V2 마이그레이션 이전과 같은 계획)
+ * - after : 같은 쿼리를 그대로 실행 (idx_board_type_created_at / idx_board_user_created_at 사용)
+ *
+ * 각 쿼리는 ANALYZE FORMAT=JSON 으로 실제 읽은 행 수(r_rows)와 filesort 여부를 기록하고,
+ * repeat 번 실행한 평균 시간을 함께 비교
+ *
+ * 실행: ./gradlew explainBenchmark [-PdbUrl= -PdbUser= -PdbPassword= -PseedRows=100000 -Prepeat=20]
+ * 결과는 build/results/loadtest/explain.json 에 저장
+ */
+@Slf4j
+public class BoardExplainBenchmark {
+
+    private static final String TYPE_INDEX = "idx_board_type_created_at";
+    private static final String USER_INDEX = "idx_board_user_created_at";
+
+    // BoardRepository 의 조회 패턴과 같은 형태의 쿼리 (%s 자리에 인덱스 힌트)
+    private static final List<QueryShape> QUERIES = List.of(
+            new QueryShape("feedFirstPage", TYPE_INDEX, """
+                    SELECT board_id, title, board_type, created_at FROM board %s
+                    WHERE board_type IN ('BOARD_PUBLIC', 'BOARD_NOTICE')
+                    ORDER BY created_at DESC, board_id DESC
+                    LIMIT 21"""),
+            new QueryShape("recentByTypes", TYPE_INDEX, """
+                    SELECT board_id, title, board_type, created_at FROM board %s
+                    WHERE board_type IN ('BOARD_PUBLIC', 'BOARD_NOTICE')
+                      AND created_at >= NOW() - INTERVAL 7 DAY
+                    ORDER BY created_at DESC, board_id DESC"""),
+            new QueryShape("byUser", USER_INDEX, """
+                    SELECT board_id, title, board_type, created_at FROM board %s
+                    WHERE user_id = (SELECT MIN(id) FROM users)
+                    ORDER BY created_at DESC""")
+    );
+
+    private static final String[] BOARD_TYPES = {"BOARD_PUBLIC", "BOARD_COMPANY", "BOARD_ADMIN", "BOARD_NOTICE"};
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("loadtest.db-url", "jdbc:mariadb://localhost:3307/ToyOne");
+        String user = System.getProperty("loadtest.db-user", "root");
+        String password = System.getProperty("loadtest.db-password", "root");
+        int seedRows = Integer.getInteger("loadtest.seed-rows", 0);
+        int repeat = Integer.getInteger("loadtest.repeat", 20);
+        String resultsDir = System.getProperty("loadtest.results-dir", "build/results/loadtest");
+
+        List<String> results = new ArrayList<>();
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            if (seedRows > 0) {
+                seed(connection, seedRows);
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE TABLE board");
+            }
+
+            for (QueryShape query : QUERIES) {
+                String before = query.sql().formatted("IGNORE INDEX (" + query.index() + ")");
+                String after = query.sql().formatted("");
+
+                double beforeMs = averageMillis(connection, before, repeat);
+                double afterMs = averageMillis(connection, after, repeat);
+
+                log.info("{} before {}ms, after {}ms",
+                        query.name(), String.format("%.2f", beforeMs), String.format("%.2f", afterMs));
+
+                results.add(String.format("""
+                            {
+                              "query": "%s",
+                              "index": "%s",
+                              "beforeAvgMs": %.3f,
+                              "afterAvgMs": %.3f,
+                              "beforePlan": %s,
+                              "afterPlan": %s
+                            }""", query.name(), query.index(), beforeMs, afterMs,
+                        analyze(connection, before), analyze(connection, after)));
+            }
+        }
+
+        Path output = Path.of(resultsDir, "explain.json");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, "[\n" + String.join(",\n", results) + "\n]\n");
+        log.info("결과 저장: {}", output.toAbsolutePath());
+    }
+
+    /**
+     * 쿼리를 repeat 번 실행하고 결과를 끝까지 읽는 데 걸린 평균 시간(ms)
+     */
+    private static double averageMillis(Connection connection, String sql, int repeat) throws SQLException {
+        // 첫 실행은 버퍼 풀 적재 시간이 섞이므로 측정에서 제외
+        consume(connection, sql);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < repeat; i++) {
+            consume(connection, sql);
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / repeat;
+    }
+
+    private static void consume(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                rs.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * ANALYZE FORMAT=JSON 결과 (실행 계획 + 실제 읽은 행 수, 소요 시간)
+     */
+    private static String analyze(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("ANALYZE FORMAT=JSON " + sql)) {
+            return rs.next() ? rs.getString(1) : "null";
+        }
+    }
+
+    /**
+     * 첫 번째 사용자 명의로 게시글을 rows 건 추가 (작성 시각은 최근 1년 안에서 분산)
+     */
+    private static void seed(Connection connection, int rows) throws SQLException {
+        long userId;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT MIN(id) FROM users")) {
+            rs.next();
+            userId = rs.getLong(1);
+            if (rs.wasNull()) {
+                throw new IllegalStateException("시드 데이터를 만들 사용자가 없습니다. 회원가입 후 다시 실행하세요.");
+            }
+        }
+
+        String sql = """
+                INSERT INTO board (board_id, board_type, title, content, created_at, updated_at, user_id)
+                VALUES (NEXTVAL(board_seq), ?, ?, ?, ?, ?, ?)""";
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < rows; i++) {
+                Timestamp createdAt = Timestamp.valueOf(now.minusMinutes((long) i * 525_600 / rows));
+                statement.setString(1, BOARD_TYPES[i % BOARD_TYPES.length]);
+                statement.setString(2, "explain 벤치마크 " + i);
+                statement.setString(3, "인덱스 전/후 실행 계획 비교용 게시글");
+                statement.setTimestamp(4, createdAt);
+                statement.setTimestamp(5, createdAt);
+                statement.setLong(6, userId);
+                statement.addBatch();
+
+                if ((i + 1) % 1000 == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+
+        log.info("시드 데이터 {}건 추가 (user_id={}, 유형 {})", rows, userId, Arrays.toString(BOARD_TYPES));
+    }
+
+    private record QueryShape(String name, String index, String sql) {
+    }
+}
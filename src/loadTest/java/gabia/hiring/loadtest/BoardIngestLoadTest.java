@@ -0,0 +1,136 @@
+package gabia.hiring.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 적재 속도 비교 (초당 저장 건수)
+ * - single: POST /api/board/create 를 한 건씩 호출 (동시 클라이언트 concurrency 개)
+ * - bulk  : POST /api/board/bulk 에 batchSize 건씩 묶어서 호출
+ *
+ * 실행: ./gradlew ingestLoadTest -Ptoken=<access token> [-Prows=10000 -PbatchSize=500 -Pconcurrency=8]
+ * 결과는 build/results/loadtest/ingest.json 에 저장
+ */
+@Slf4j
+public class BoardIngestLoadTest {
+
+    private static final String CONTENT = "파트너사 채용 공고 일괄 등록 부하 테스트용 본문입니다.";
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:9090");
+        String token = System.getProperty("loadtest.token", "");
+        int rows = Integer.getInteger("loadtest.rows", 10_000);
+        int batchSize = Integer.getInteger("loadtest.batch-size", 500);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 8);
+        String resultsDir = System.getProperty("loadtest.results-dir", "build/results/loadtest");
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        double singleRowsPerSecond = run("single", rows, concurrency, index ->
+                post(client, baseUrl + "/api/board/create", token, boardJson(index)) ? 1 : 0);
+
+        int requests = (rows + batchSize - 1) / batchSize;
+        double bulkRowsPerSecond = run("bulk", requests, concurrency, index -> {
+            int from = index * batchSize;
+            int to = Math.min(from + batchSize, rows);
+            return post(client, baseUrl + "/api/board/bulk", token, bulkJson(from, to)) ? to - from : 0;
+        });
+
+        log.info("bulk / single = {}배", String.format("%.1f", bulkRowsPerSecond / singleRowsPerSecond));
+
+        Path output = Path.of(resultsDir, "ingest.json");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, String.format("""
+                {
+                  "rows": %d,
+                  "batchSize": %d,
+                  "concurrency": %d,
+                  "singleRowsPerSecond": %.1f,
+                  "bulkRowsPerSecond": %.1f
+                }
+                """, rows, batchSize, concurrency, singleRowsPerSecond, bulkRowsPerSecond));
+        log.info("결과 저장: {}", output.toAbsolutePath());
+    }
+
+    /**
+     * tasks 개의 요청을 concurrency 개의 클라이언트가 나눠서 보내고 초당 저장 건수 반환
+     */
+    private static double run(String label, int tasks, int concurrency, Task task) throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        long startedAt = System.nanoTime();
+
+        List<Future<Integer>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService workers = Executors.newFixedThreadPool(concurrency)) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    int stored = 0;
+                    int index;
+                    while ((index = next.getAndIncrement()) < tasks) {
+                        stored += task.run(index);
+                    }
+                    return stored;
+                }));
+            }
+        }
+
+        int stored = 0;
+        for (Future<Integer> future : futures) {
+            stored += future.get();
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        double rowsPerSecond = stored / elapsedSeconds;
+
+        log.info("[{}] {}건 저장, {}초, {} rows/s",
+                label, stored, String.format("%.2f", elapsedSeconds), String.format("%.1f", rowsPerSecond));
+        return rowsPerSecond;
+    }
+
+    private static boolean post(HttpClient client, String url, String token, String body) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (!token.isBlank()) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+
+        HttpResponse<Void> response = client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() == 200;
+    }
+
+    private static String boardJson(int index) {
+        return String.format("{\"title\":\"적재 테스트 %d\",\"content\":\"%s\",\"boardType\":\"BOARD_PUBLIC\"}",
+                index, CONTENT);
+    }
+
+    private static String bulkJson(int from, int to) {
+        StringBuilder json = new StringBuilder("{\"boards\":[");
+        for (int index = from; index < to; index++) {
+            if (index > from) {
+                json.append(',');
+            }
+            json.append(boardJson(index));
+        }
+        return json.append("]}").toString();
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        int run(int index) throws Exception;
+    }
+}
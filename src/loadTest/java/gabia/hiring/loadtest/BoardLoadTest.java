@@ -0,0 +1,190 @@
+package gabia.hiring.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 게시판 API 부하 테스트
+ * 고정된 수의 클라이언트가 지정 시간 동안 쉬지 않고 요청을 보내고 처리량과 지연시간 분포를 측정
+ *
+ * 플랫폼 스레드 / 가상 스레드 비교 방법
+ *   1) ./gradlew bootRun                                           → ./gradlew loadTest -Ptoken=... -Plabel=platform
+ *   2) ./gradlew bootRun --args='--spring.profiles.active=virtual' → ./gradlew loadTest -Ptoken=... -Plabel=virtual
+ *   결과는 build/results/loadtest/{label}.json 에 저장
+ *
+ * 클라이언트 측 동시성은 가상 스레드로 만들어 측정 도구 자체가 병목이 되지 않도록 함
+ */
+@Slf4j
+public class BoardLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:9090");
+        String path = System.getProperty("loadtest.path", "/api/board");
+        String token = System.getProperty("loadtest.token", "");
+        int concurrency = Integer.getInteger("loadtest.concurrency", 1000);
+        int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 30);
+        String label = System.getProperty("loadtest.label", "default");
+        String resultsDir = System.getProperty("loadtest.results-dir", "build/results/loadtest");
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (!token.isBlank()) {
+            requestBuilder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest request = requestBuilder.build();
+
+        log.info("부하 테스트 시작: {}{}, 동시 클라이언트 {}, {}초 [{}]",
+                baseUrl, path, concurrency, durationSeconds, label);
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + Duration.ofSeconds(durationSeconds).toNanos();
+
+        List<Future<WorkerResult>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> runWorker(client, request, deadline)));
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        WorkerResult total = new WorkerResult();
+        for (Future<WorkerResult> future : futures) {
+            total.merge(future.get());
+        }
+
+        Summary summary = Summary.of(label, concurrency, elapsedSeconds, total);
+        log.info("{}", summary.toText());
+
+        Path output = Path.of(resultsDir, label + ".json");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, summary.toJson());
+        log.info("결과 저장: {}", output.toAbsolutePath());
+    }
+
+    private static WorkerResult runWorker(HttpClient client, HttpRequest request, long deadline) {
+        WorkerResult result = new WorkerResult();
+
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                result.record(System.nanoTime() - start, response.statusCode());
+            } catch (IOException e) {
+                result.recordFailure();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 클라이언트 한 개의 측정 결과 (지연시간은 2xx 응답만 기록)
+     */
+    private static class WorkerResult {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long non2xx;
+        private long serviceUnavailable;
+        private long failures;
+
+        void record(long latencyNanos, int status) {
+            if (status == 503) {
+                serviceUnavailable++;
+            }
+            if (status < 200 || status >= 300) {
+                non2xx++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+
+        void recordFailure() {
+            failures++;
+        }
+
+        void merge(WorkerResult other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            non2xx += other.non2xx;
+            serviceUnavailable += other.serviceUnavailable;
+            failures += other.failures;
+        }
+    }
+
+    private record Summary(String label, int concurrency, double elapsedSeconds, long succeeded,
+                           long non2xx, long serviceUnavailable, long failures,
+                           double throughput, double p50Millis, double p99Millis, double maxMillis) {
+
+        static Summary of(String label, int concurrency, double elapsedSeconds, WorkerResult result) {
+            long[] sorted = Arrays.copyOf(result.latencies, result.count);
+            Arrays.sort(sorted);
+
+            return new Summary(label, concurrency, elapsedSeconds, sorted.length,
+                    result.non2xx, result.serviceUnavailable, result.failures,
+                    sorted.length / elapsedSeconds,
+                    percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        String toText() {
+            return String.format("[%s] 처리량 %.1f req/s, p50 %.1fms, p99 %.1fms, max %.1fms, 성공 %d, 비정상 응답 %d (503: %d), 연결 실패 %d",
+                    label, throughput, p50Millis, p99Millis, maxMillis, succeeded, non2xx, serviceUnavailable, failures);
+        }
+
+        String toJson() {
+            return String.format("""
+                    {
+                      "label": "%s",
+                      "concurrency": %d,
+                      "elapsedSeconds": %.3f,
+                      "succeeded": %d,
+                      "non2xx": %d,
+                      "serviceUnavailable": %d,
+                      "failures": %d,
+                      "throughput": %.1f,
+                      "p50Millis": %.3f,
+                      "p99Millis": %.3f,
+                      "maxMillis": %.3f
+                    }
+                    """, label, concurrency, elapsedSeconds, succeeded, non2xx, serviceUnavailable, failures,
+                    throughput, p50Millis, p99Millis, maxMillis);
+        }
+    }
+}
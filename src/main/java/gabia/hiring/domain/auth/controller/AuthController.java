@@ -0,0 +1,85 @@
+package gabia.hiring.domain.auth.controller;
+
+import gabia.hiring.domain.auth.dto.LoginRequest;
+import gabia.hiring.domain.auth.dto.SignupRequest;
+import gabia.hiring.domain.auth.dto.SignupResponse;
+import gabia.hiring.domain.auth.dto.TokenRefreshRequest;
+import gabia.hiring.domain.auth.dto.TokenResponse;
+import gabia.hiring.domain.auth.service.impl.AuthServiceImpl;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private final AuthServiceImpl authService;
+
+    /**
+     * 회원가입
+     * 비밀번호 해시는 전용 실행기에서 수행되고, 요청 스레드는 결과를 기다리지 않고 반환됨 (비동기 응답)
+     */
+    @PostMapping("/signup")
+    public CompletableFuture<ResponseEntity<SignupResponse>> signup(@Valid @RequestBody SignupRequest request) {
+
+        log.atDebug()
+                .setMessage("회원가입 요청")
+                .addKeyValue("role", request.getRole())
+                .log();
+
+        return authService.signup(request)
+                .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    /**
+     * 로그인
+     * 비밀번호 확인은 전용 실행기에서 수행 (대기열이 가득 차면 429, 대기 시간이 길면 503)
+     */
+    @PostMapping("/login")
+    public CompletableFuture<ResponseEntity<TokenResponse>> login(@Valid @RequestBody LoginRequest request) {
+
+        log.debug("로그인 요청");
+
+        return authService.login(request)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Access Token 재발급 (Refresh Token 회전)
+     * 응답의 refreshToken 으로 교체해야 하며, 이전 Refresh Token 을 다시 사용하면 로그인 전체가 폐기됨
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody TokenRefreshRequest request) {
+
+        TokenResponse response = authService.refresh(request.getRefreshToken());
+
+        log.debug("토큰 재발급 요청");
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 로그아웃
+     * Refresh Token 과 같은 로그인에서 발급된 Access Token 을 모두 폐기
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody TokenRefreshRequest request) {
+
+        authService.logout(request.getRefreshToken());
+
+        log.debug("로그아웃 요청");
+
+        return ResponseEntity.noContent().build();
+    }
+}
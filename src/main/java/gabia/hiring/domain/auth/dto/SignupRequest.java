@@ -0,0 +1,33 @@
+package gabia.hiring.domain.auth.dto;
+
+import gabia.hiring.domain.user.entity.Role;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SignupRequest {
+
+    @NotBlank
+    @Email
+    private String email;
+
+    // BCrypt 는 72바이트까지만 사용하므로 길이 제한
+    @NotBlank
+    @Size(min = 8, max = 64)
+    private String password;
+
+    @NotBlank
+    @Size(max = 50)
+    private String userName;
+
+    // USER 또는 COMPANY (ADMIN 은 가입으로 만들 수 없음)
+    @NotNull
+    private Role role;
+}
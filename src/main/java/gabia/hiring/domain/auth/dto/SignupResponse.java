@@ -0,0 +1,20 @@
+package gabia.hiring.domain.auth.dto;
+
+import gabia.hiring.domain.user.entity.Role;
+import gabia.hiring.domain.user.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SignupResponse {
+
+    private Long id;
+    private String email;
+    private String userName;
+    private Role role;
+
+    public static SignupResponse from(User user) {
+        return new SignupResponse(user.getId(), user.getEmail(), user.getUserName(), user.getRole());
+    }
+}
@@ -0,0 +1,28 @@
+package gabia.hiring.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 토큰 발급 응답 (로그인, Refresh Token 회전)
+ * 회전 후에는 이전 Refresh Token 을 더 이상 사용할 수 없으므로 응답의 refreshToken 으로 교체해야 함
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class TokenResponse {
+
+    private static final String BEARER = "Bearer";
+
+    private String grantType;
+    private String accessToken;
+    private String refreshToken;
+
+    // Access Token 유효 시간 (초)
+    private long accessTokenExpiresIn;
+
+    public static TokenResponse bearer(String accessToken, String refreshToken, long accessTokenExpiresIn) {
+        return new TokenResponse(BEARER, accessToken, refreshToken, accessTokenExpiresIn);
+    }
+}
@@ -0,0 +1,346 @@
+package gabia.hiring.domain.auth.service.impl;
+
+import gabia.hiring.domain.auth.dto.LoginRequest;
+import gabia.hiring.domain.auth.dto.SignupRequest;
+import gabia.hiring.domain.auth.dto.SignupResponse;
+import gabia.hiring.domain.auth.dto.TokenResponse;
+import gabia.hiring.domain.user.entity.Role;
+import gabia.hiring.domain.user.entity.User;
+import gabia.hiring.domain.user.repository.UserRepository;
+import gabia.hiring.global.exception.ErrorCode;
+import gabia.hiring.global.exception.HiringException;
+import gabia.hiring.global.security.dto.UserPrincipal;
+import gabia.hiring.global.security.event.UserAuthorityChangedEvent;
+import gabia.hiring.global.security.jwt.AuthFailureLog;
+import gabia.hiring.global.security.jwt.JwtTokenProvider;
+import gabia.hiring.global.security.jwt.RefreshTokenStore;
+import gabia.hiring.global.security.jwt.RefreshTokenStore.RotationResult;
+import gabia.hiring.global.security.jwt.RevokedTokenRegistry;
+import gabia.hiring.global.security.jwt.VerifiedToken;
+import gabia.hiring.global.security.password.PasswordHashExecutor;
+import gabia.hiring.global.security.password.PasswordHashExecutor.Operation;
+import gabia.hiring.global.security.service.PrincipalCache;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 로그인/회원가입, 토큰 발급/회전/폐기
+ * 트랜잭션 없음 - 사용자 조회/저장은 repository 단위 트랜잭션, 패밀리/폐기 목록은 메모리 저장소
+ *
+ * 비밀번호 해시(BCrypt)는 PasswordHashExecutor 에서 실행하고 결과를 CompletableFuture 로 반환하므로
+ * 해시 계산 동안 요청 스레드를 점유하지 않음
+ * 로그인의 사용자 조회, 해시 이후의 DB 저장/토큰 서명은 applicationTaskExecutor 에서 실행
+ * (요청 스레드가 DB 를 기다리지 않고, DB 커넥션 풀이 포화되어도 CPU 코어 수만큼인 해시 스레드가 커넥션 대기로 묶이지 않도록)
+ */
+@Service
+@Slf4j
+public class AuthServiceImpl {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final PrincipalCache principalCache;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final Executor completionExecutor;
+    private final AuthFailureLog authFailureLog;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 없는 이메일로 로그인해도 같은 비용의 비교를 수행하기 위한 해시 (응답 시간으로 가입 여부를 알 수 없도록)
+    // 단, 아직 재해시되지 않은 기존 비용 해시 계정은 비교 비용이 더 작아 응답이 빠름 (첫 로그인 후 사라짐)
+    private final String dummyPasswordHash;
+
+    public AuthServiceImpl(JwtTokenProvider jwtTokenProvider,
+                           RefreshTokenStore refreshTokenStore,
+                           RevokedTokenRegistry revokedTokenRegistry,
+                           PrincipalCache principalCache,
+                           UserRepository userRepository,
+                           PasswordEncoder passwordEncoder,
+                           PasswordHashExecutor passwordHashExecutor,
+                           @Qualifier("applicationTaskExecutor") Executor completionExecutor,
+                           AuthFailureLog authFailureLog,
+                           ApplicationEventPublisher eventPublisher) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenStore = refreshTokenStore;
+        this.revokedTokenRegistry = revokedTokenRegistry;
+        this.principalCache = principalCache;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.completionExecutor = completionExecutor;
+        this.authFailureLog = authFailureLog;
+        this.eventPublisher = eventPublisher;
+        this.dummyPasswordHash = passwordEncoder.encode(newId());
+    }
+
+    /**
+     * 로그인
+     * 사용자 조회와 토큰 발급은 completionExecutor 에서, 비밀번호 비교는 해시 실행기에서 수행 (요청 스레드는 바로 반환)
+     * 기존 비용/형식의 해시로 로그인에 성공하면 토큰을 발급한 뒤 새 비용으로 재해시하여 저장 (응답은 재해시를 기다리지 않음)
+     *
+     * @return 새 토큰 패밀리로 발급한 토큰 (비밀번호 불일치 시 INVALID_PASSWORD,
+     *         해시 실행기 과부하 시 TOO_MANY_REQUESTS / AUTH_UNAVAILABLE 로 실패)
+     */
+    public CompletableFuture<TokenResponse> login(LoginRequest request) {
+        return CompletableFuture.supplyAsync(() -> userRepository.findByEmail(request.getEmail()).orElse(null),
+                        completionExecutor)
+                .thenCompose(user -> {
+                    String storedHash = user != null ? user.getPassword() : dummyPasswordHash;
+
+                    return passwordHashExecutor
+                            .submit(Operation.VERIFY, () -> checkPassword(request.getPassword(), storedHash))
+                            .thenApplyAsync(check -> {
+                                if (user == null || !check.matched()) {
+                                    // 요청마다 로그(이메일)를 남기지 않고 건수만 집계 (크리덴셜 스터핑 시 로그 폭주 방지)
+                                    authFailureLog.loginFailed();
+                                    throw new HiringException(ErrorCode.INVALID_PASSWORD);
+                                }
+
+                                TokenResponse tokens = issueTokens(UserPrincipal.from(user));
+                                if (check.upgradeNeeded()) {
+                                    rehashPassword(user, request.getPassword());
+                                }
+                                return tokens;
+                            }, completionExecutor);
+                });
+    }
+
+    /**
+     * 회원가입
+     * 중복 확인은 요청 스레드에서, 비밀번호 해시는 해시 실행기에서, 저장은 completionExecutor 에서 수행
+     */
+    public CompletableFuture<SignupResponse> signup(SignupRequest request) {
+        if (request.getRole() == Role.ADMIN) {
+            throw new HiringException(ErrorCode.INVALID_AUTHORITY);
+        }
+        if (userRepository.existsByEmail(request.getEmail())) {
+            throw new HiringException(ErrorCode.DUPLICATE_EMAIL);
+        }
+        if (userRepository.existsByUserName(request.getUserName())) {
+            throw new HiringException(ErrorCode.DUPLICATE_USERNAME);
+        }
+
+        return passwordHashExecutor.submit(Operation.ENCODE, () -> passwordEncoder.encode(request.getPassword()))
+                .thenApplyAsync(encodedPassword -> {
+                    User user = User.builder()
+                            .email(request.getEmail())
+                            .password(encodedPassword)
+                            .userName(request.getUserName())
+                            .role(request.getRole())
+                            .build();
+
+                    try {
+                        User savedUser = userRepository.save(user);
+                        log.atInfo()
+                                .setMessage("회원가입")
+                                .addKeyValue("userId", savedUser.getId())
+                                .addKeyValue("role", savedUser.getRole())
+                                .log();
+                        return SignupResponse.from(savedUser);
+                    } catch (DataIntegrityViolationException e) {
+                        throw signupConflict(request, e);
+                    }
+                }, completionExecutor);
+    }
+
+    /**
+     * 중복 확인 이후 저장 시 제약 위반이 난 경우 실제로 충돌한 값을 다시 확인
+     * (동시에 같은 이메일/사용자명으로 가입한 경우), 중복이 아니면 원래 예외를 그대로 전달
+     */
+    private RuntimeException signupConflict(SignupRequest request, DataIntegrityViolationException e) {
+        if (userRepository.existsByEmail(request.getEmail())) {
+            return new HiringException(ErrorCode.DUPLICATE_EMAIL);
+        }
+        if (userRepository.existsByUserName(request.getUserName())) {
+            return new HiringException(ErrorCode.DUPLICATE_USERNAME);
+        }
+        return e;
+    }
+
+    /**
+     * 새 토큰 패밀리로 Access/Refresh Token 발급 (로그인 성공 시)
+     */
+    public TokenResponse issueTokens(UserPrincipal principal) {
+        String familyId = newId();
+        String tokenId = newId();
+
+        refreshTokenStore.register(familyId, principal.getEmail(), tokenId, nextRefreshExpiry());
+
+        log.atInfo()
+                .setMessage("토큰 발급")
+                .addKeyValue("userId", principal.getId())
+                .log();
+
+        return createTokens(principal, familyId, tokenId);
+    }
+
+    /**
+     * Refresh Token 회전
+     * 현재 토큰이면 새 Access/Refresh Token 을 발급하고 제출된 토큰은 무효화
+     * 이미 회전된 토큰이 다시 제출되면 탈취로 보고 패밀리 전체(발급된 Access Token 포함)를 폐기
+     *
+     * @param refreshToken 제출된 Refresh Token
+     * @return 새 토큰
+     * @throws HiringException 유효하지 않은 토큰(INVALID_TOKEN), 재사용된 토큰(REUSED_REFRESH_TOKEN)
+     */
+    public TokenResponse refresh(String refreshToken) {
+        VerifiedToken verifiedToken = verifyRefreshToken(refreshToken);
+        String familyId = verifiedToken.getFamilyId();
+
+        // 회전 전에 사용자 확인 (탈퇴한 사용자면 패밀리를 교체하지 않음, 권한 변경도 새 토큰에 반영)
+        UserPrincipal principal = loadPrincipal(verifiedToken.getSubject());
+
+        String nextTokenId = newId();
+        RotationResult result = refreshTokenStore.rotate(
+                familyId, verifiedToken.getTokenId(), nextTokenId, nextRefreshExpiry());
+
+        switch (result) {
+            case ROTATED:
+                log.atDebug()
+                        .setMessage("Refresh Token 회전")
+                        .addKeyValue("userId", principal.getId())
+                        .log();
+                return createTokens(principal, familyId, nextTokenId);
+            case REUSED:
+                revokeFamilyAccessTokens(familyId);
+                log.atWarn()
+                        .setMessage("Refresh Token 재사용 감지 - 토큰 패밀리 폐기")
+                        .addKeyValue("userId", principal.getId())
+                        .log();
+                throw new HiringException(ErrorCode.REUSED_REFRESH_TOKEN);
+            default:
+                throw new HiringException(ErrorCode.INVALID_TOKEN);
+        }
+    }
+
+    /**
+     * 로그아웃 - Refresh Token 패밀리와 이 패밀리로 발급된 Access Token 폐기
+     * 이미 폐기된 토큰으로 다시 요청해도 성공으로 처리
+     */
+    public void logout(String refreshToken) {
+        VerifiedToken verifiedToken = verifyRefreshToken(refreshToken);
+
+        refreshTokenStore.remove(verifiedToken.getFamilyId());
+        revokeFamilyAccessTokens(verifiedToken.getFamilyId());
+
+        log.atInfo()
+                .setMessage("로그아웃")
+                .addKeyValue("subject", verifiedToken.getSubject())
+                .log();
+    }
+
+    private TokenResponse createTokens(UserPrincipal principal, String familyId, String tokenId) {
+        Authentication authentication =
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+
+        return TokenResponse.bearer(
+                jwtTokenProvider.generateAccessToken(authentication, familyId),
+                jwtTokenProvider.generateRefreshToken(authentication, familyId, tokenId),
+                jwtTokenProvider.getAccessTokenValidity().toSeconds()
+        );
+    }
+
+    /**
+     * 폐기 시점에 발급되어 있던 Access Token 이 모두 만료될 때까지 폐기 목록에 보관
+     */
+    private void revokeFamilyAccessTokens(String familyId) {
+        revokedTokenRegistry.revoke(familyId, Instant.now().plus(jwtTokenProvider.getAccessTokenValidity()));
+    }
+
+    /**
+     * 서명/만료/타입과 패밀리 클레임 확인
+     */
+    private VerifiedToken verifyRefreshToken(String refreshToken) {
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtTokenProvider.verify(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new HiringException(ErrorCode.INVALID_TOKEN);
+        }
+
+        // 패밀리 없이 발급된 Refresh Token 은 회전 상태를 알 수 없으므로 거부
+        if (!verifiedToken.isRefreshToken() || !verifiedToken.hasFamily() || verifiedToken.getTokenId() == null) {
+            throw new HiringException(ErrorCode.INVALID_TOKEN);
+        }
+        return verifiedToken;
+    }
+
+    private UserPrincipal loadPrincipal(String email) {
+        try {
+            return principalCache.get(email);
+        } catch (UsernameNotFoundException e) {
+            throw new HiringException(ErrorCode.INVALID_TOKEN);
+        }
+    }
+
+    /**
+     * 비밀번호 비교 (해시 실행기 스레드에서 호출)
+     * 새 해시는 여기서 계산하지 않음 (로그인 응답 시간에 재해시 비용이 더해지지 않도록)
+     */
+    private PasswordCheck checkPassword(String rawPassword, String storedHash) {
+        if (!passwordEncoder.matches(rawPassword, storedHash)) {
+            return new PasswordCheck(false, false);
+        }
+        return new PasswordCheck(true, passwordEncoder.upgradeEncoding(storedHash));
+    }
+
+    /**
+     * 기존 비용/형식의 해시를 새 비용으로 재해시 (로그인 응답과 별개로 실행)
+     * 해시 실행기가 과부하면 생략하고 다음 로그인에서 다시 시도
+     */
+    private void rehashPassword(User user, String rawPassword) {
+        passwordHashExecutor.submit(Operation.REHASH, () -> passwordEncoder.encode(rawPassword))
+                .thenAcceptAsync(upgradedHash -> upgradePassword(user, upgradedHash), completionExecutor)
+                .exceptionally(e -> {
+                    log.debug("비밀번호 재해시 생략 - userId: {}, 원인: {}", user.getId(), e.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * 재해시한 비밀번호 저장 (실패해도 로그인은 성공 처리, 다음 로그인에서 다시 시도)
+     * 저장되면 인증 정보 캐시에 남은 이전 해시를 제거
+     */
+    private void upgradePassword(User user, String upgradedHash) {
+        try {
+            int updated = userRepository.updatePassword(user.getId(), user.getPassword(), upgradedHash);
+            if (updated > 0) {
+                eventPublisher.publishEvent(new UserAuthorityChangedEvent(user.getEmail()));
+            }
+            log.atDebug()
+                    .setMessage("비밀번호 재해시")
+                    .addKeyValue("userId", user.getId())
+                    .addKeyValue("updated", updated)
+                    .log();
+        } catch (DataAccessException e) {
+            log.warn("비밀번호 재해시 저장 실패 - userId: {}, 원인: {}", user.getId(), e.getMessage());
+        }
+    }
+
+    private Instant nextRefreshExpiry() {
+        return Instant.now().plus(jwtTokenProvider.getRefreshTokenValidity());
+    }
+
+    private static String newId() {
+        return UUID.randomUUID().toString();
+    }
+
+    // 비밀번호 비교 결과 (upgradeNeeded: 일치했고 저장된 해시가 기존 비용/형식이라 재해시가 필요한지)
+    private record PasswordCheck(boolean matched, boolean upgradeNeeded) {
+    }
+}
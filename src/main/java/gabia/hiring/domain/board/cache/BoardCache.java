@@ -0,0 +1,65 @@
+package gabia.hiring.domain.board.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import gabia.hiring.domain.board.event.BoardChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * 게시글 단건 조회 캐시 (read-through)
+ * 캐시 적중 시 board 조회 없이 스냅샷으로 응답하고 권한 체크도 스냅샷으로 수행
+ *
+ * - 크기: board.cache.maximum-size 로 제한 (초과 시 사용 빈도가 낮은 항목부터 제거)
+ * - 무효화: 수정/삭제 트랜잭션이 커밋된 뒤에만 제거 (롤백된 변경은 캐시에 영향 없음)
+ * - 지표: cache.gets{cache="board", result="hit|miss"}, cache.evictions{cache="board"}
+ */
+@Component
+public class BoardCache {
+
+    private final Cache<Long, BoardSnapshot> cache;
+
+    public BoardCache(MeterRegistry meterRegistry,
+                      @Value("${board.cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "board");
+    }
+
+    /**
+     * 게시글 스냅샷 조회 (캐시에 없으면 loader로 조회 후 저장)
+     *
+     * @param boardId 게시글 id
+     * @param loader 캐시 미스 시 DB에서 스냅샷을 만드는 함수 (예외 발생 시 캐시하지 않음)
+     */
+    public BoardSnapshot get(Long boardId, Function<Long, BoardSnapshot> loader) {
+        return cache.get(boardId, loader);
+    }
+
+    public void invalidate(Long boardId) {
+        cache.invalidate(boardId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 게시글 수정/삭제 커밋 후 캐시 제거
+     */
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getChangeType() != BoardChangedEvent.ChangeType.CREATED) {
+            invalidate(event.getBoardId());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package gabia.hiring.domain.board.cache;
+
+import gabia.hiring.domain.board.dto.BoardResponse;
+import gabia.hiring.domain.board.entity.Board;
+import gabia.hiring.domain.board.entity.BoardType;
+import gabia.hiring.domain.board.policy.BoardAccessPolicy;
+import gabia.hiring.domain.user.entity.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시에 보관하는 게시글의 불변 스냅샷
+ * 영속성 컨텍스트와 분리된 값이므로 여러 요청에서 공유해도 안전함
+ */
+@Getter
+@AllArgsConstructor
+public class BoardSnapshot {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final BoardType boardType;
+    private final Long ownerId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long version;
+
+    public static BoardSnapshot from(Board board) {
+        return new BoardSnapshot(
+                board.getId(),
+                board.getTitle(),
+                board.getContent(),
+                board.getBoardType(),
+                board.getOwnerId(),
+                board.getCreatedAt(),
+                board.getUpdatedAt(),
+                board.getVersion()
+        );
+    }
+
+    // 접근 권한 체크 (Board.canAccess 와 같은 규칙)
+    public boolean canAccess(Role userRole) {
+        return BoardAccessPolicy.canRead(userRole, boardType);
+    }
+
+    public BoardResponse toResponse() {
+        return BoardResponse.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .boardType(boardType)
+                .ownerId(ownerId)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .version(version)
+                .build();
+    }
+}
@@ -1,17 +1,28 @@
 package gabia.hiring.domain.board.controller;
 
 
+import gabia.hiring.domain.board.dto.BoardBulkRequest;
+import gabia.hiring.domain.board.dto.BoardBulkResponse;
+import gabia.hiring.domain.board.dto.BoardETag;
 import gabia.hiring.domain.board.dto.BoardRequest;
 import gabia.hiring.domain.board.dto.BoardResponse;
+import gabia.hiring.domain.board.dto.BoardSliceResponse;
+import gabia.hiring.domain.board.dto.BoardSummaryResponse;
 import gabia.hiring.domain.board.dto.BoardUpdateRequest;
+import gabia.hiring.domain.board.entity.BoardType;
 import gabia.hiring.domain.board.service.impl.BoardServiceImpl;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -29,49 +40,141 @@ public class BoardController {
 
         BoardResponse response = boardService.createBoard(boardRequest);
 
-        log.info("게시판 생성 요청 - 제목: {}", boardRequest.getTitle() );
+        log.atDebug()
+                .setMessage("게시판 생성 요청")
+                .addKeyValue("boardId", response.getId())
+                .addKeyValue("boardType", boardRequest.getBoardType())
+                .log();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 게시판 일괄 생성
+     * 항목별 결과(성공 시 id, 실패 시 사유)를 요청 순서대로 반환
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BoardBulkResponse> createBoards(@Valid @RequestBody BoardBulkRequest bulkRequest) {
+
+        BoardBulkResponse response = boardService.createBoards(bulkRequest);
+
+        log.atDebug()
+                .setMessage("게시판 일괄 생성 요청")
+                .addKeyValue("requested", response.getRequested())
+                .addKeyValue("created", response.getCreated())
+                .log();
 
         return ResponseEntity.ok(response);
     }
 
     /**
      * 게시판 단건 조회
+     * 응답에 게시글 버전을 ETag 로 담고, If-None-Match 가 같으면 본문 없이 304 응답
+     * (ResponseEntity 에 ETag 가 있으면 Spring MVC 가 If-None-Match 를 비교하여 직렬화를 생략)
      */
     @GetMapping("{boardId}")
     public ResponseEntity<BoardResponse> getBoard(@PathVariable Long boardId) {
 
         BoardResponse response = boardService.getBoard(boardId);
 
-        log.info("{} 게시판 단건 조회 요청", boardId);
+        log.atDebug()
+                .setMessage("게시판 단건 조회 요청")
+                .addKeyValue("boardId", boardId)
+                .log();
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(BoardETag.of(response.getVersion()))
+                .body(response);
     }
 
     /**
      * 게시판 전체 조회
      */
     @GetMapping
-    public ResponseEntity<List<BoardResponse>> getAllBoards() {
+    public ResponseEntity<List<BoardSummaryResponse>> getAllBoards() {
 
-        log.info("모든 게시판 조회 요청");
+        log.debug("모든 게시판 조회 요청");
 
-        List<BoardResponse> responses = boardService.getAllBoards();
+        List<BoardSummaryResponse> responses = boardService.getAllBoards();
 
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 게시판 목록 커서 기반 조회
+     * 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 전달
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<BoardSliceResponse> getBoardsByCursor(@RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "20") int size) {
 
+        BoardSliceResponse response = boardService.getBoardsByCursor(cursor, size);
 
+        log.atDebug()
+                .setMessage("게시판 커서 조회 요청")
+                .addKeyValue("size", size)
+                .addKeyValue("hasNext", response.isHasNext())
+                .log();
+
+        return ResponseEntity.ok(response);
+    }
 
     /**
-     * 제목으로 게시판 조회
+     * 최신 게시판 목록 조회
+     * 권한별로 메모리에 유지되는 최신 게시글 피드에서 응답
+     */
+    @GetMapping("/latest")
+    public ResponseEntity<List<BoardSummaryResponse>> getLatestBoards(@RequestParam(defaultValue = "20") int size) {
+
+        List<BoardSummaryResponse> responses = boardService.getLatestBoards(size);
+
+        log.atDebug()
+                .setMessage("최신 게시판 조회 요청")
+                .addKeyValue("size", size)
+                .log();
+
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 게시판 내보내기 (NDJSON 스트리밍)
+     * 한 줄에 게시글 하나씩 응답 본문에 바로 기록
+     * 예) /api/board/export?boardType=BOARD_PUBLIC&since=2025-01-01T00:00:00
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public void exportBoards(@RequestParam(required = false) BoardType boardType,
+                             @RequestParam(required = false)
+                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+                             HttpServletResponse response) throws IOException {
+
+        log.atDebug()
+                .setMessage("게시판 내보내기 요청")
+                .addKeyValue("boardType", boardType)
+                .addKeyValue("since", since)
+                .log();
+
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+
+        boardService.exportBoards(boardType, since, response.getOutputStream());
+    }
+
+    /**
+     * 제목/내용으로 게시판 검색
+     * keyword 파라미터 사용 (기존 title 파라미터도 지원)
      */
     @GetMapping("/search")
-    public ResponseEntity<List<BoardResponse>> searchBoard(@RequestParam(required = false) String title) {
+    public ResponseEntity<List<BoardSummaryResponse>> searchBoard(@RequestParam(required = false) String keyword,
+                                                                  @RequestParam(required = false) String title) {
 
-        List<BoardResponse> responses = boardService.searchBoards(title);
+        String searchKeyword = keyword != null ? keyword : title;
+        List<BoardSummaryResponse> responses = boardService.searchBoards(searchKeyword);
 
-        log.info("{}이 포함된 제목 게시판 조회 요청", title);
+        log.atDebug()
+                .setMessage("게시판 검색 요청")
+                .addKeyValue("keyword", searchKeyword)
+                .addKeyValue("results", responses.size())
+                .log();
 
         return ResponseEntity.ok(responses);
     }
@@ -79,15 +182,23 @@ public class BoardController {
     /**
      * 게시판 수정
      * user 토큰으로 인증 후 만약 맞으면 그 유저의 게시물 중 board 수정 가능
+     * If-Match 에 조회 시 받은 ETag 를 보내면 그 사이 다른 수정이 있었을 때 412 응답 (덮어쓰기 방지)
      */
     @PatchMapping("update/{boardId}")
     public ResponseEntity<BoardResponse> updateBoard(@PathVariable("boardId") Long boardId,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                 @RequestBody BoardUpdateRequest boardUpdateRequest) {
-        BoardResponse response = boardService.updateBoard(boardId, boardUpdateRequest);
+        BoardResponse response = boardService.updateBoard(boardId, boardUpdateRequest, BoardETag.parseIfMatch(ifMatch));
 
-        log.info("{}: {} 게시판 수정 요청", boardId, boardUpdateRequest.getTitle());
+        log.atDebug()
+                .setMessage("게시판 수정 요청")
+                .addKeyValue("boardId", boardId)
+                .addKeyValue("ifMatch", ifMatch)
+                .log();
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(BoardETag.of(response.getVersion()))
+                .body(response);
     }
 
     /**
@@ -98,7 +209,10 @@ public class BoardController {
 
         boardService.deleteBoard(boardId);
 
-        log.info("{} 게시판 삭제 요청", boardId);
+        log.atDebug()
+                .setMessage("게시판 삭제 요청")
+                .addKeyValue("boardId", boardId)
+                .log();
 
         //HTTP 상태 코드: 204 No Content
         //본문 내용X (빈 body)
@@ -0,0 +1,114 @@
+package gabia.hiring.domain.board.controller;
+
+import gabia.hiring.domain.board.dto.BoardCursor;
+import gabia.hiring.domain.board.dto.BoardETag;
+import gabia.hiring.domain.board.dto.BoardSliceResponse;
+import gabia.hiring.domain.board.dto.BoardSummaryResponse;
+import gabia.hiring.domain.board.entity.BoardType;
+import gabia.hiring.domain.board.policy.BoardAccessPolicy;
+import gabia.hiring.domain.board.repository.ReactiveBoardRepository;
+import gabia.hiring.domain.board.search.BoardSearchIndex;
+import gabia.hiring.domain.board.service.impl.BoardServiceImpl;
+import gabia.hiring.global.exception.ErrorCode;
+import gabia.hiring.global.exception.HiringException;
+import gabia.hiring.global.security.dto.UserPrincipal;
+import gabia.hiring.global.security.jwt.ReactiveJwtFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 게시판 조회 전용 API 핸들러 (논블로킹)
+ * BoardController 의 단건/커서 목록/검색 조회와 같은 응답을 R2DBC로 제공
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive.read.enabled", havingValue = "true")
+public class ReactiveBoardHandler {
+
+    private final ReactiveBoardRepository reactiveBoardRepository;
+    private final BoardSearchIndex boardSearchIndex;
+
+    /**
+     * 게시판 단건 조회
+     * 게시글 버전을 ETag 로 응답하고 If-None-Match 가 같으면 본문 없이 304 응답
+     */
+    public Mono<ServerResponse> getBoard(ServerRequest request) {
+        UserPrincipal principal = ReactiveJwtFilter.getPrincipal(request);
+
+        return Mono.fromCallable(() -> Long.valueOf(request.pathVariable("boardId")))
+                .onErrorMap(NumberFormatException.class, e -> new HiringException(ErrorCode.INVALID_INPUT_VALUE))
+                .flatMap(reactiveBoardRepository::findById)
+                .switchIfEmpty(Mono.error(() -> new HiringException(ErrorCode.NOT_FOUND_BOARD)))
+                .flatMap(snapshot -> {
+                    if (!snapshot.canAccess(principal.getRole())) {
+                        return Mono.error(new HiringException(ErrorCode.INVALID_AUTHORITY));
+                    }
+                    String eTag = BoardETag.of(snapshot.getVersion());
+                    return request.checkNotModified(eTag)
+                            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok().eTag(eTag).bodyValue(snapshot.toResponse())));
+                });
+    }
+
+    /**
+     * 권한별 게시판 목록 커서 기반 조회
+     * 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 전달
+     */
+    public Mono<ServerResponse> getBoardsByCursor(ServerRequest request) {
+        UserPrincipal principal = ReactiveJwtFilter.getPrincipal(request);
+        List<BoardType> accessibleTypes = principal.readableBoardTypes();
+        String cursor = request.queryParam("cursor").orElse(null);
+
+        return Mono.fromCallable(() -> BoardSliceResponse.pageSizeOf(
+                        Integer.parseInt(request.queryParam("size").orElse("20"))))
+                .onErrorMap(NumberFormatException.class, e -> new HiringException(ErrorCode.INVALID_INPUT_VALUE))
+                .flatMap(pageSize -> {
+                    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+                    Flux<BoardSummaryResponse> boards;
+                    if (cursor == null || cursor.isBlank()) {
+                        boards = reactiveBoardRepository.findFirstPageByTypes(accessibleTypes, pageSize + 1);
+                    } else {
+                        boards = reactiveBoardRepository.findNextPageByTypes(
+                                accessibleTypes, BoardCursor.decode(cursor), pageSize + 1);
+                    }
+                    return boards.collectList().map(list -> BoardSliceResponse.of(list, pageSize));
+                })
+                .flatMap(response -> ServerResponse.ok().bodyValue(response));
+    }
+
+    /**
+     * 제목/내용으로 게시판 검색
+     * 검색 색인(메모리)에서 id를 찾고 R2DBC로 요약 정보 조회
+     */
+    public Mono<ServerResponse> searchBoards(ServerRequest request) {
+        UserPrincipal principal = ReactiveJwtFilter.getPrincipal(request);
+        String keyword = request.queryParam("keyword")
+                .or(() -> request.queryParam("title"))
+                .orElse(null);
+
+        List<Long> boardIds = boardSearchIndex.search(
+                keyword, BoardAccessPolicy.readableTypeSet(principal.getRole()), BoardServiceImpl.SEARCH_RESULT_LIMIT);
+
+        if (boardIds.isEmpty()) {
+            return ServerResponse.ok().bodyValue(List.of());
+        }
+
+        // id 목록 조회는 순서를 보장하지 않으므로 검색 점수 순서로 다시 정렬
+        return reactiveBoardRepository.findSummariesByIdIn(boardIds)
+                .collectMap(BoardSummaryResponse::getId)
+                .map(boardsById -> boardIds.stream()
+                        .map(boardsById::get)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .flatMap(responses -> ServerResponse.ok().bodyValue(responses));
+    }
+}
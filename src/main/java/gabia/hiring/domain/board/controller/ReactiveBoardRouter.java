@@ -0,0 +1,42 @@
+package gabia.hiring.domain.board.controller;
+
+import gabia.hiring.global.exception.ErrorResponseRegistry;
+import gabia.hiring.global.exception.HiringException;
+import gabia.hiring.global.security.jwt.ReactiveJwtFilter;
+import gabia.hiring.global.security.ratelimit.ReactiveRateLimitFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * 게시판 조회 전용 API 라우팅 (ReactiveReadServer 에서 서빙)
+ * 경로는 BoardController 의 조회 API와 동일하게 유지
+ */
+@Configuration
+@ConditionalOnProperty(name = "reactive.read.enabled", havingValue = "true")
+public class ReactiveBoardRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveBoardRoutes(ReactiveBoardHandler handler,
+                                                              ReactiveJwtFilter reactiveJwtFilter,
+                                                              ReactiveRateLimitFilter reactiveRateLimitFilter,
+                                                              ErrorResponseRegistry errorResponseRegistry) {
+        return RouterFunctions.route()
+                .path("/api/board", builder -> builder
+                        .GET("/scroll", handler::getBoardsByCursor)
+                        .GET("/search", handler::searchBoards)
+                        .GET("/{boardId}", handler::getBoard))
+                // 먼저 등록한 필터가 바깥에서 실행 (인증 → 속도 제한)
+                .filter(reactiveJwtFilter)
+                .filter(reactiveRateLimitFilter)
+                .onError(HiringException.class, (e, request) -> ServerResponse
+                        .status(e.getErrorCode().getStatus())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(errorResponseRegistry.get(e.getErrorCode())))
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package gabia.hiring.domain.board.dto;
+
+import gabia.hiring.global.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 생성 요청의 항목별 처리 결과
+ */
+@Getter
+@AllArgsConstructor
+public class BoardBulkItemResult {
+
+    public enum Status {
+        CREATED, REJECTED
+    }
+
+    // 요청 목록에서의 위치 (0부터 시작)
+    private final int index;
+
+    private final Status status;
+
+    // 생성된 게시글 id (실패 시 null)
+    private final Long id;
+
+    // 실패 사유 (성공 시 null)
+    private final String code;
+    private final String message;
+
+    public static BoardBulkItemResult created(int index, Long id) {
+        return new BoardBulkItemResult(index, Status.CREATED, id, null, null);
+    }
+
+    public static BoardBulkItemResult rejected(int index, ErrorCode errorCode, String message) {
+        return new BoardBulkItemResult(index, Status.REJECTED, null, errorCode.getCode(), message);
+    }
+}
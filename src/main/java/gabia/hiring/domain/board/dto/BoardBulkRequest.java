@@ -0,0 +1,25 @@
+package gabia.hiring.domain.board.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시판 일괄 생성 요청
+ * 각 항목은 개별적으로 검증되고, 잘못된 항목만 실패 처리됨 (요청 전체가 거부되지 않음)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardBulkRequest {
+
+    public static final int MAX_SIZE = 1000;
+
+    @NotEmpty(message = "등록할 게시글을 입력하세요.")
+    @Size(max = MAX_SIZE, message = "한 번에 최대 1000건까지 등록할 수 있습니다.")
+    private List<BoardRequest> boards;
+}
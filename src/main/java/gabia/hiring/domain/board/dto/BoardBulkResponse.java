@@ -0,0 +1,28 @@
+package gabia.hiring.domain.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시판 일괄 생성 응답
+ */
+@Getter
+@AllArgsConstructor
+public class BoardBulkResponse {
+
+    private final int requested;
+    private final int created;
+    private final int rejected;
+
+    // 요청 순서와 같은 순서의 항목별 결과
+    private final List<BoardBulkItemResult> results;
+
+    public static BoardBulkResponse of(List<BoardBulkItemResult> results) {
+        int created = (int) results.stream()
+                .filter(result -> result.getStatus() == BoardBulkItemResult.Status.CREATED)
+                .count();
+        return new BoardBulkResponse(results.size(), created, results.size() - created, results);
+    }
+}
@@ -0,0 +1,68 @@
+package gabia.hiring.domain.board.dto;
+
+import gabia.hiring.global.exception.ErrorCode;
+import gabia.hiring.global.exception.HiringException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션의 위치 정보
+ * 마지막으로 조회한 게시글의 (createdAt, id)를 담고, 클라이언트에는 불투명한 문자열로 전달
+ * 감사 설정 이전에 저장된 게시글은 createdAt 이 없으므로(NULL) createdAt 없이 id 만 담음
+ */
+@Getter
+@RequiredArgsConstructor
+public class BoardCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static BoardCursor from(BoardSummaryResponse board) {
+        return new BoardCursor(board.getCreatedAt(), board.getId());
+    }
+
+    /**
+     * createdAt 이 없는 게시글 위치인지 확인 (이후 페이지는 id 만으로 seek)
+     */
+    public boolean isUndated() {
+        return createdAt == null;
+    }
+
+    /**
+     * 커서를 URL-safe Base64 문자열로 변환
+     */
+    public String encode() {
+        String raw = (createdAt != null ? createdAt.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열 해석
+     *
+     * @param cursor encode()로 만든 문자열
+     * @return 커서 위치
+     * @throws HiringException 형식이 잘못된 커서인 경우
+     */
+    public static BoardCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            String createdAt = raw.substring(0, separatorIndex);
+
+            return new BoardCursor(
+                    createdAt.isEmpty() ? null : LocalDateTime.parse(createdAt),
+                    Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new HiringException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package gabia.hiring.domain.board.dto;
+
+import gabia.hiring.global.exception.ErrorCode;
+import gabia.hiring.global.exception.HiringException;
+
+/**
+ * 게시글 버전(@Version)과 HTTP ETag 변환
+ * ETag 는 게시글 URL 안에서만 의미가 있으므로 버전 숫자만 담음 (예: "3")
+ *
+ * - GET    : ETag 응답, If-None-Match 가 같으면 304
+ * - PATCH  : If-Match 로 받은 버전이 현재 버전과 같을 때만 수정, 다르면 412
+ */
+public final class BoardETag {
+
+    private static final String ANY = "*";
+
+    private BoardETag() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * If-Match 헤더에서 기대하는 게시글 버전 추출
+     * If-Match 는 강한 비교만 허용하므로 약한 ETag(W/)나 형식이 다른 값은 어떤 버전과도 일치하지 않음
+     *
+     * @param ifMatch If-Match 헤더 값
+     * @return 기대 버전 (헤더가 없거나 "*" 이면 null - 버전 비교 없이 수정)
+     * @throws HiringException 어떤 버전과도 일치할 수 없는 값인 경우 (412)
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+        if (ANY.equals(value)) {
+            return null;
+        }
+
+        try {
+            if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+                throw new NumberFormatException(value);
+            }
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new HiringException(ErrorCode.BOARD_VERSION_MISMATCH);
+        }
+    }
+}
@@ -1,9 +1,8 @@
 package gabia.hiring.domain.board.dto;
 
 import gabia.hiring.domain.board.entity.BoardType;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -17,4 +16,7 @@ public class BoardRequest {
     @NotBlank(message = "내용을 입력하세요. 최소 10글자 이상 작성하세요.")
     private String content;
 
+    @NotNull(message = "게시판 종류를 선택하세요.")
+    private BoardType boardType;
+
 }
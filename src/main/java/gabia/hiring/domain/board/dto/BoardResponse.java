@@ -19,16 +19,32 @@ public class BoardResponse {
     private String content;
     private String message;
     private BoardType boardType;
+    private Long ownerId;
+    private String authorName;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // 게시글 버전 (ETag 와 같은 값, 수정 시 If-Match 로 전달)
+    private Long version;
 
     public BoardResponse(Board board) {
         this.id = board.getId();
         this.title = board.getTitle();
         this.content = board.getContent();
         this.boardType = board.getBoardType();
+        this.ownerId = board.getOwnerId();
         this.createdAt = board.getCreatedAt();
         this.updatedAt = board.getUpdatedAt();
+        this.version = board.getVersion();
+    }
+
+    /**
+     * 작성자 이름을 포함한 응답 생성
+     * 작성자를 함께 조회(@EntityGraph)한 게시글에만 사용 (아니면 게시글마다 users 조회 발생)
+     */
+    public static BoardResponse withAuthor(Board board) {
+        BoardResponse response = new BoardResponse(board);
+        response.authorName = board.getUser() != null ? board.getUser().getUserName() : null;
+        return response;
     }
 
 }
@@ -0,0 +1,46 @@
+package gabia.hiring.domain.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 게시판 목록 응답
+ * 전체 개수(COUNT) 대신 다음 페이지 커서만 전달
+ */
+@Getter
+@AllArgsConstructor
+public class BoardSliceResponse {
+
+    // 한 번에 조회할 수 있는 최대 개수
+    public static final int MAX_SIZE = 100;
+
+    private List<BoardSummaryResponse> boards;
+
+    // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    /**
+     * 요청한 크기를 1 ~ MAX_SIZE 범위로 보정
+     */
+    public static int pageSizeOf(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * pageSize + 1 건으로 조회한 결과로 응답 생성
+     * 한 건이 더 조회되었으면 다음 페이지가 있는 것으로 판단
+     */
+    public static BoardSliceResponse of(List<BoardSummaryResponse> boards, int pageSize) {
+        boolean hasNext = boards.size() > pageSize;
+        List<BoardSummaryResponse> page = hasNext ? boards.subList(0, pageSize) : boards;
+
+        // 마지막 게시글의 createdAt 이 없어도(감사 설정 이전 게시글) id 만으로 다음 페이지를 seek 할 수 있음
+        String nextCursor = hasNext ? BoardCursor.from(page.get(page.size() - 1)).encode() : null;
+
+        return new BoardSliceResponse(page, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,43 @@
+package gabia.hiring.domain.board.dto;
+
+import gabia.hiring.domain.board.entity.Board;
+import gabia.hiring.domain.board.entity.BoardType;
+import gabia.hiring.domain.board.event.BoardChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 목록용 요약 응답 (내용 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class BoardSummaryResponse {
+
+    private final Long id;
+    private final String title;
+    private final BoardType boardType;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public static BoardSummaryResponse from(Board board) {
+        return new BoardSummaryResponse(
+                board.getId(),
+                board.getTitle(),
+                board.getBoardType(),
+                board.getCreatedAt(),
+                board.getUpdatedAt()
+        );
+    }
+
+    public static BoardSummaryResponse from(BoardChangedEvent event) {
+        return new BoardSummaryResponse(
+                event.getBoardId(),
+                event.getTitle(),
+                event.getBoardType(),
+                event.getCreatedAt(),
+                event.getUpdatedAt()
+        );
+    }
+}
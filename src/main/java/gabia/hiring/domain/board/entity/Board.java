@@ -1,6 +1,7 @@
 package gabia.hiring.domain.board.entity;
 
 
+import gabia.hiring.domain.board.policy.BoardAccessPolicy;
 import gabia.hiring.domain.user.entity.Role;
 import gabia.hiring.domain.user.entity.User;
 import jakarta.persistence.*;
@@ -17,15 +18,22 @@ import java.time.LocalDateTime;
 /**
  * @EntityListeners(AuditingEntityListener.class) JPA가 엔티티의 생명주기 이벤트를 감지하여 자동으로 감사 정보를 처리하도록 등록
  */
-@Table(name = "board")
+@Table(name = "board", indexes = {
+        // 스키마는 Flyway(V2__board_access_indexes.sql)로 관리, 여기서는 매핑 문서화 용도
+        @Index(name = "idx_board_type_created_at", columnList = "board_type, created_at, board_id"),
+        @Index(name = "idx_board_user_created_at", columnList = "user_id, created_at")
+})
 @Entity
 @Getter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class Board {
 
+    // IDENTITY 는 INSERT 마다 id를 받아와야 해서 JDBC 배치가 불가능하므로 시퀀스 사용
+    // allocationSize 만큼 id를 미리 할당 (pooled optimizer, hibernate.jdbc.batch_size 와 동일)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq_generator")
+    @SequenceGenerator(name = "board_seq_generator", sequenceName = "board_seq", allocationSize = 50)
     @Column(name = "board_id")
     private Long id;
 
@@ -40,6 +48,10 @@ public class Board {
     @JoinColumn(name = "user_id")
     private User user;
 
+    // 작성자 FK 값 (읽기 전용) - 관리 권한 체크 시 작성자 엔티티를 로딩하지 않기 위함
+    @Column(name = "user_id", insertable = false, updatable = false)
+    private Long userId;
+
     @Enumerated(EnumType.STRING)
     private BoardType boardType;
 
@@ -49,6 +61,10 @@ public class Board {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // 낙관적 잠금 버전 - 수정 시 UPDATE ... WHERE version = ? 로 비교 후 증가 (ETag 로 노출)
+    @Version
+    private Long version;
+
 
     @Builder
     public Board(String title, String content, User user, BoardType boardType) {
@@ -58,6 +74,11 @@ public class Board {
         this.boardType = boardType;
     }
 
+    // 클라이언트가 알고 있는 버전(If-Match)과 현재 버전이 같은지 확인 (null 이면 비교하지 않음)
+    public boolean isVersion(Long expectedVersion) {
+        return expectedVersion == null || expectedVersion.equals(this.version);
+    }
+
     // 게시글 수정
     public void updateBoard(String title, String content) {
         if (title != null && !title.trim().isEmpty()) {
@@ -70,21 +91,20 @@ public class Board {
 
     // 접근 권한 체크
     public boolean canAccess(Role userRole) {
-        switch (this.boardType) {
-            case BOARD_PUBLIC:
-                return true;
-            case BOARD_COMPANY:
-                return userRole == Role.COMPANY || userRole == Role.ADMIN;
-            case BOARD_ADMIN:
-                return userRole == Role.ADMIN;
-            default:
-                return false;
+        return BoardAccessPolicy.canRead(userRole, this.boardType);
+    }
+
+    // 작성자 id (FK 컬럼 값 사용, 아직 flush 전인 새 게시글은 연관 엔티티의 id 사용)
+    public Long getOwnerId() {
+        if (this.userId != null) {
+            return this.userId;
         }
+        return this.user != null ? this.user.getId() : null;
     }
 
     //게시글 관리 가능 여부
     public boolean canManage(Long userId, Role userRole) {
-        return userRole == Role.ADMIN || userId.equals(this.user.getId());
+        return BoardAccessPolicy.canManage(userRole, this.boardType, userId.equals(getOwnerId()));
     }
 
 }
@@ -1,5 +1,9 @@
 package gabia.hiring.domain.board.entity;
 
+/**
+ * 게시판 종류
+ * 권한별 조회/작성/관리 규칙은 BoardAccessPolicy 에서 관리
+ */
 public enum BoardType {
-    BOARD_PUBLIC, BOARD_COMPANY, BOARD_ADMIN, BOARD_NOTICE
-}
\ No newline at end of file
+    BOARD_PUBLIC, BOARD_COMPANY, BOARD_ADMIN, BOARD_NOTICE;
+}
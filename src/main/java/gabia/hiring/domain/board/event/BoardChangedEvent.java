@@ -0,0 +1,57 @@
+package gabia.hiring.domain.board.event;
+
+import gabia.hiring.domain.board.entity.Board;
+import gabia.hiring.domain.board.entity.BoardType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 생성/수정/삭제 이벤트
+ * 발행 시점의 게시글 값을 복사해서 담으므로 트랜잭션 커밋 후 리스너에서 안전하게 사용 가능
+ * (검색 인덱스, 캐시 등 메모리 상의 파생 데이터를 갱신하는 데 사용)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final ChangeType changeType;
+    private final Long boardId;
+    private final String title;
+    private final String content;
+    private final BoardType boardType;
+    private final Long ownerId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public static BoardChangedEvent created(Board board) {
+        return of(ChangeType.CREATED, board);
+    }
+
+    public static BoardChangedEvent updated(Board board) {
+        return of(ChangeType.UPDATED, board);
+    }
+
+    public static BoardChangedEvent deleted(Board board) {
+        return of(ChangeType.DELETED, board);
+    }
+
+    private static BoardChangedEvent of(ChangeType changeType, Board board) {
+        return new BoardChangedEvent(
+                changeType,
+                board.getId(),
+                board.getTitle(),
+                board.getContent(),
+                board.getBoardType(),
+                board.getOwnerId(),
+                board.getCreatedAt(),
+                board.getUpdatedAt()
+        );
+    }
+}
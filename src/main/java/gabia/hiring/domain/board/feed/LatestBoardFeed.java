@@ -0,0 +1,219 @@
+package gabia.hiring.domain.board.feed;
+
+import gabia.hiring.domain.board.dto.BoardSummaryResponse;
+import gabia.hiring.domain.board.entity.BoardType;
+import gabia.hiring.domain.board.event.BoardChangedEvent;
+import gabia.hiring.domain.board.policy.BoardAccessPolicy;
+import gabia.hiring.domain.board.repository.BoardRepository;
+import gabia.hiring.domain.user.entity.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 권한별 최신 게시글 피드 (메모리 상주)
+ * 권한(USER, COMPANY, ADMIN)마다 접근 가능한 게시판 종류가 고정되어 있으므로
+ * 권한별로 최신 게시글 요약 N개를 미리 정렬해 두고 DB 조회 없이 응답
+ *
+ * - 시작 시 DB에서 권한별 최신 게시글로 피드 생성
+ * - 게시글 생성/수정/삭제 커밋 후 해당 게시글이 보이는 피드만 갱신
+ * - 피드는 불변 리스트로 교체(copy-on-write)하므로 읽기는 락 없이 수행
+ * - 삭제로 보관 개수가 N보다 작아지면 해당 권한의 피드만 DB에서 다시 채움
+ */
+@Slf4j
+@Component
+public class LatestBoardFeed {
+
+    // 최신순 정렬 (생성일 내림차순, 같으면 id 내림차순)
+    private static final Comparator<BoardSummaryResponse> LATEST_FIRST = Comparator
+            .comparing(BoardSummaryResponse::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(BoardSummaryResponse::getId, Comparator.reverseOrder());
+
+    private final BoardRepository boardRepository;
+    private final int feedSize;
+    private final int capacity;
+    private final Map<Role, RoleFeed> feeds = new EnumMap<>(Role.class);
+
+    public LatestBoardFeed(BoardRepository boardRepository,
+                           @Value("${board.feed.size:100}") int feedSize) {
+        this.boardRepository = boardRepository;
+        this.feedSize = feedSize;
+        // 삭제가 몇 건 발생해도 바로 DB를 다시 읽지 않도록 여유분을 함께 보관
+        this.capacity = feedSize + Math.max(feedSize / 2, 1);
+
+        for (Role role : Role.values()) {
+            feeds.put(role, new RoleFeed(BoardAccessPolicy.readableTypes(role)));
+        }
+    }
+
+    /**
+     * 권한별 최신 게시글 조회 (DB 조회 없음)
+     *
+     * @param role 사용자 권한
+     * @param size 조회 개수 (최대 board.feed.size)
+     */
+    public List<BoardSummaryResponse> latest(Role role, int size) {
+        List<BoardSummaryResponse> entries = feeds.get(role).entries;
+        int count = Math.min(Math.min(Math.max(size, 0), feedSize), entries.size());
+        return entries.subList(0, count);
+    }
+
+    public int getFeedSize() {
+        return feedSize;
+    }
+
+    /**
+     * 시작 시 전체 피드 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        for (Role role : Role.values()) {
+            rebuild(role);
+        }
+        log.info("최신 게시글 피드 생성 완료 - 권한별 최대 {}개", capacity);
+    }
+
+    /**
+     * 게시글 변경 커밋 후 해당 게시글이 보이는 피드 갱신
+     */
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        for (Map.Entry<Role, RoleFeed> entry : feeds.entrySet()) {
+            RoleFeed feed = entry.getValue();
+            if (!BoardAccessPolicy.canRead(entry.getKey(), event.getBoardType())) {
+                continue;
+            }
+
+            boolean needsRefill;
+            synchronized (feed) {
+                needsRefill = apply(feed, event);
+                // DB 재조회 중이면 조회 결과로 교체한 뒤 다시 반영하도록 보관
+                if (feed.rebuilding > 0) {
+                    feed.missedEvents.add(event);
+                }
+            }
+
+            if (needsRefill) {
+                rebuild(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * 피드에 변경 반영
+     *
+     * @return 삭제로 보관 개수가 부족해져 DB에서 다시 채워야 하면 true
+     */
+    private boolean apply(RoleFeed feed, BoardChangedEvent event) {
+        List<BoardSummaryResponse> entries = new ArrayList<>(feed.entries);
+        boolean removed = entries.removeIf(summary -> summary.getId().equals(event.getBoardId()));
+
+        switch (event.getChangeType()) {
+            case CREATED:
+                feed.full |= insert(entries, BoardSummaryResponse.from(event));
+                break;
+            case UPDATED:
+                // 피드 범위 밖의 오래된 게시글 수정은 무시
+                if (removed || isWithinFeed(entries, event.getCreatedAt())) {
+                    feed.full |= insert(entries, BoardSummaryResponse.from(event));
+                }
+                break;
+            case DELETED:
+                break;
+        }
+
+        feed.entries = List.copyOf(entries);
+        return removed && event.getChangeType() == BoardChangedEvent.ChangeType.DELETED
+                && entries.size() < feedSize && feed.full;
+    }
+
+    /**
+     * 정렬 순서에 맞는 위치에 추가하고 보관 개수를 넘는 오래된 항목 제거
+     *
+     * @return 오래된 항목이 잘려 나갔으면 true (피드가 DB의 일부만 보관하게 됨)
+     */
+    private boolean insert(List<BoardSummaryResponse> entries, BoardSummaryResponse summary) {
+        int index = 0;
+        while (index < entries.size() && LATEST_FIRST.compare(entries.get(index), summary) < 0) {
+            index++;
+        }
+        entries.add(index, summary);
+
+        boolean trimmed = false;
+        while (entries.size() > capacity) {
+            entries.remove(entries.size() - 1);
+            trimmed = true;
+        }
+        return trimmed;
+    }
+
+    private boolean isWithinFeed(List<BoardSummaryResponse> entries, LocalDateTime createdAt) {
+        if (entries.size() < capacity) {
+            return true;
+        }
+        LocalDateTime oldest = entries.get(entries.size() - 1).getCreatedAt();
+        return createdAt != null && (oldest == null || createdAt.isAfter(oldest));
+    }
+
+    /**
+     * 권한 하나의 피드를 DB에서 다시 생성
+     * DB 조회는 락 밖에서 수행하므로, 조회 중에 반영된 변경 이벤트를 보관했다가
+     * 조회 결과로 교체한 뒤 순서대로 다시 반영 (조회 결과에 이미 포함된 변경은 같은 값으로 덮어씀)
+     */
+    private void rebuild(Role role) {
+        RoleFeed feed = feeds.get(role);
+        synchronized (feed) {
+            feed.rebuilding++;
+        }
+
+        List<BoardSummaryResponse> entries = null;
+        try {
+            entries = boardRepository.findLatestSummariesByTypes(feed.boardTypes, Limit.of(capacity));
+        } finally {
+            synchronized (feed) {
+                // 조회에 실패하면 기존 피드를 유지
+                if (entries != null) {
+                    feed.entries = List.copyOf(entries);
+                    // DB에 더 이상 게시글이 없으면 삭제 시 다시 채울 필요가 없음
+                    feed.full = entries.size() >= capacity;
+
+                    for (BoardChangedEvent event : feed.missedEvents) {
+                        apply(feed, event);
+                    }
+                }
+
+                if (--feed.rebuilding == 0) {
+                    feed.missedEvents.clear();
+                }
+            }
+        }
+    }
+
+    // 권한 하나의 피드 (쓰기는 synchronized, 읽기는 volatile 리스트 참조)
+    private static class RoleFeed {
+
+        // 조회 가능한 게시판 종류 (BoardAccessPolicy 의 공유 불변 목록)
+        private final List<BoardType> boardTypes;
+        private volatile List<BoardSummaryResponse> entries = List.of();
+        // DB에 피드보다 오래된 게시글이 더 있는지 여부 (false 면 피드가 전체 게시글을 보관 중)
+        private boolean full;
+        // 진행 중인 DB 재조회 수와 그동안 반영된 변경 이벤트 (synchronized 안에서만 접근)
+        private int rebuilding;
+        private final List<BoardChangedEvent> missedEvents = new ArrayList<>();
+
+        private RoleFeed(List<BoardType> boardTypes) {
+            this.boardTypes = boardTypes;
+        }
+    }
+}
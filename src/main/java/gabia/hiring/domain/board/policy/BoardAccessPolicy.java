@@ -0,0 +1,128 @@
+package gabia.hiring.domain.board.policy;
+
+import gabia.hiring.domain.board.entity.BoardType;
+import gabia.hiring.domain.user.entity.Role;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 권한(Role) × 게시판 종류(BoardType) × 동작(BoardAction) 권한 표
+ *
+ * 클래스 로딩 시 한 번만 계산하고 이후에는 읽기만 하므로 여러 스레드에서 공유해도 안전함
+ * - 권한 검사: (권한, 동작) 별 비트마스크와 BoardType.ordinal() 비트의 AND 한 번
+ * - 조회 조건: 권한별로 미리 만든 불변 List/Set 을 그대로 쿼리 파라미터로 사용 (요청마다 목록 생성 없음)
+ *
+ * 규칙
+ * - BOARD_PUBLIC, BOARD_NOTICE: 모든 사용자 조회 가능
+ * - BOARD_COMPANY: 기업 회원, 관리자만 조회/작성 가능
+ * - BOARD_ADMIN: 관리자만 조회/작성 가능
+ * - BOARD_NOTICE 작성, 다른 사용자 게시글 관리: 관리자만 가능
+ */
+public final class BoardAccessPolicy {
+
+    private static final Role[] ROLES = Role.values();
+    private static final BoardAction[] ACTIONS = BoardAction.values();
+
+    // [action.ordinal()][role.ordinal()] → 허용된 BoardType 비트마스크
+    private static final int[][] MASKS = new int[ACTIONS.length][ROLES.length];
+
+    // 권한별 조회 가능한 게시판 종류 (JPA/R2DBC IN 조건용 List, contains 검사용 EnumSet)
+    private static final Map<Role, List<BoardType>> READABLE_TYPES = new EnumMap<>(Role.class);
+    private static final Map<Role, Set<BoardType>> READABLE_TYPE_SETS = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : ROLES) {
+            for (BoardType boardType : BoardType.values()) {
+                for (BoardAction action : ACTIONS) {
+                    if (allows(role, boardType, action)) {
+                        MASKS[action.ordinal()][role.ordinal()] |= bit(boardType);
+                    }
+                }
+            }
+
+            Set<BoardType> readable = EnumSet.noneOf(BoardType.class);
+            for (BoardType boardType : BoardType.values()) {
+                if (can(role, boardType, BoardAction.READ)) {
+                    readable.add(boardType);
+                }
+            }
+            READABLE_TYPE_SETS.put(role, Collections.unmodifiableSet(readable));
+            READABLE_TYPES.put(role, List.copyOf(readable));
+        }
+    }
+
+    private BoardAccessPolicy() {
+    }
+
+    /**
+     * 권한 검사
+     *
+     * @param role 사용자 권한
+     * @param boardType 게시판 종류
+     * @param action 동작
+     */
+    public static boolean can(Role role, BoardType boardType, BoardAction action) {
+        return (MASKS[action.ordinal()][role.ordinal()] & bit(boardType)) != 0;
+    }
+
+    public static boolean canRead(Role role, BoardType boardType) {
+        return can(role, boardType, BoardAction.READ);
+    }
+
+    public static boolean canCreate(Role role, BoardType boardType) {
+        return can(role, boardType, BoardAction.CREATE);
+    }
+
+    /**
+     * 작성자이거나 관리 권한이 있으면 수정/삭제 가능
+     */
+    public static boolean canManage(Role role, BoardType boardType, boolean owner) {
+        return owner || can(role, boardType, BoardAction.MANAGE);
+    }
+
+    /**
+     * 권한별 조회 가능한 게시판 종류 (공유 불변 목록, 쿼리 IN 조건용)
+     */
+    public static List<BoardType> readableTypes(Role role) {
+        return READABLE_TYPES.get(role);
+    }
+
+    /**
+     * 권한별 조회 가능한 게시판 종류 (공유 불변 EnumSet, contains 검사용)
+     */
+    public static Set<BoardType> readableTypeSet(Role role) {
+        return READABLE_TYPE_SETS.get(role);
+    }
+
+    /**
+     * 권한 표 정의 (시작 시 비트마스크로 변환할 때만 사용)
+     */
+    private static boolean allows(Role role, BoardType boardType, BoardAction action) {
+        if (role == Role.ADMIN) {
+            return true;
+        }
+
+        return switch (action) {
+            case READ -> switch (boardType) {
+                case BOARD_PUBLIC, BOARD_NOTICE -> true;
+                case BOARD_COMPANY -> role == Role.COMPANY;
+                case BOARD_ADMIN -> false;
+            };
+            case CREATE -> switch (boardType) {
+                case BOARD_PUBLIC -> true;
+                case BOARD_COMPANY -> role == Role.COMPANY;
+                case BOARD_ADMIN, BOARD_NOTICE -> false;
+            };
+            case MANAGE -> false;
+        };
+    }
+
+    private static int bit(BoardType boardType) {
+        return 1 << boardType.ordinal();
+    }
+}
@@ -0,0 +1,16 @@
+package gabia.hiring.domain.board.policy;
+
+/**
+ * 게시판 권한 검사 대상 동작
+ */
+public enum BoardAction {
+
+    // 조회 (단건/목록/검색/피드/내보내기)
+    READ,
+
+    // 작성 (단건/일괄)
+    CREATE,
+
+    // 작성자가 아닌 사용자의 수정/삭제
+    MANAGE
+}
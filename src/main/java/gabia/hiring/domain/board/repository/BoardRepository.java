@@ -1,20 +1,47 @@
 package gabia.hiring.domain.board.repository;
 
+import gabia.hiring.domain.board.dto.BoardCursor;
+import gabia.hiring.domain.board.dto.BoardSummaryResponse;
 import gabia.hiring.domain.board.entity.Board;
 import gabia.hiring.domain.board.entity.BoardType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
+    // 권한별 최신순 조회 JPQL
+    String LATEST_BOARDS_BY_TYPES =
+            "SELECT b FROM Board b WHERE b.boardType IN :boardTypes ORDER BY b.createdAt DESC, b.id DESC";
+
+    // 권한별 + 기간 조회 JPQL (목록 조회와 스트리밍 조회에서 공유)
+    String BOARDS_BY_TYPES_AND_DATE_AFTER =
+            "SELECT b FROM Board b WHERE b.boardType IN :boardTypes AND b.createdAt >= :startDate";
+
+    // 스트리밍 조회 시 JDBC fetch size
+    String STREAM_FETCH_SIZE = "500";
+
+    // 목록용 요약 projection (내용 제외, 엔티티로 관리되지 않음)
+    String SUMMARY_SELECT = "SELECT new gabia.hiring.domain.board.dto.BoardSummaryResponse(" +
+            "b.id, b.title, b.boardType, b.createdAt, b.updatedAt) FROM Board b ";
+
+    // 권한별 최신순 요약 조회 JPQL
+    String LATEST_SUMMARIES_BY_TYPES = SUMMARY_SELECT +
+            "WHERE b.boardType IN :boardTypes ORDER BY b.createdAt DESC, b.id DESC";
+
     // 제목에 특정 문자열이 포함된 게시글 찾기
     List<Board> findByTitleContaining(String title);
     // 내용에 특정 문자열 포함된 게시글 찾기
@@ -23,24 +50,103 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     // 권한별 게시글 조회
     List<Board> findByBoardTypeIn(List<BoardType> boardTypes);
 
-    // 특정 유저의 게시글 조회
+    // 특정 유저의 게시글 조회 (작성자를 함께 조회하여 N+1 방지)
+    @EntityGraph(attributePaths = "user")
     List<Board> findByUserId(Long userId);
 
     // 권한별 + 제목 검색
     List<Board> findByBoardTypeInAndTitleContaining(List<BoardType> boardTypes, String title);
 
-    // 페이징을 위한 메서드들
+    // 페이징을 위한 메서드들 (목록에 작성자 정보를 표시하므로 작성자를 함께 조회)
+    @EntityGraph(attributePaths = "user")
     Page<Board> findByBoardTypeIn(List<BoardType> boardTypes, Pageable pageable);
     Page<Board> findByBoardTypeInAndTitleContaining(List<BoardType> boardTypes, String title, Pageable pageable);
 
     // 권한별 최신 게시글 조회
-    @Query("SELECT b FROM Board b WHERE b.boardType IN :boardTypes ORDER BY b.createdAt DESC")
+    @Query(LATEST_BOARDS_BY_TYPES)
     List<Board> findLatestBoardsByTypes(@Param("boardTypes") List<BoardType> boardTypes);
 
+    // 권한별 최신 게시글 N개 요약 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(LATEST_SUMMARIES_BY_TYPES)
+    List<BoardSummaryResponse> findLatestSummariesByTypes(@Param("boardTypes") List<BoardType> boardTypes, Limit limit);
+
+    // 전체 게시글 요약 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SUMMARY_SELECT)
+    List<BoardSummaryResponse> findAllSummaries();
+
+    // id 목록으로 요약 조회 (순서 보장 안 됨)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SUMMARY_SELECT + "WHERE b.id IN :ids")
+    List<BoardSummaryResponse> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    // 커서 기반 요약 조회 - 첫 페이지 (COUNT 쿼리 없음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(LATEST_SUMMARIES_BY_TYPES)
+    List<BoardSummaryResponse> findFirstPageByTypes(@Param("boardTypes") List<BoardType> boardTypes, Limit limit);
+
+    /**
+     * 커서 기반 요약 조회 - 다음 페이지
+     * 최신순 정렬에서 createdAt 이 NULL 인 게시글(감사 설정 이전)은 맨 뒤에 id 역순으로 옴
+     * (MariaDB/H2 모두 NULL 을 가장 작은 값으로 정렬)
+     * 커서에 createdAt 이 있으면 (createdAt, id) 로, 없으면 NULL 구간 안에서 id 로 seek
+     */
+    default List<BoardSummaryResponse> findNextPageByTypes(List<BoardType> boardTypes, BoardCursor cursor, Limit limit) {
+        if (cursor.isUndated()) {
+            return findNextUndatedPageByTypes(boardTypes, cursor.getId(), limit);
+        }
+        return findNextPageByTypes(boardTypes, cursor.getCreatedAt(), cursor.getId(), limit);
+    }
+
+    // 커서 기반 요약 조회 - 다음 페이지 ((createdAt, id)가 커서보다 작은 게시글, 이어서 createdAt 이 NULL 인 게시글)
+    // 인덱스(board_type, created_at, board_id)에서 NULL 은 가장 앞이므로 "IS NULL OR < :createdAt" 은 하나의 범위
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SUMMARY_SELECT + "WHERE b.boardType IN :boardTypes " +
+            "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id) OR b.createdAt IS NULL) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardSummaryResponse> findNextPageByTypes(@Param("boardTypes") List<BoardType> boardTypes,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Limit limit);
+
+    // 커서 기반 요약 조회 - createdAt 이 NULL 인 구간의 다음 페이지 (id 가 커서보다 작은 게시글부터 seek)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SUMMARY_SELECT + "WHERE b.boardType IN :boardTypes AND b.createdAt IS NULL AND b.id < :id " +
+            "ORDER BY b.id DESC")
+    List<BoardSummaryResponse> findNextUndatedPageByTypes(@Param("boardTypes") List<BoardType> boardTypes,
+                                                          @Param("id") Long id,
+                                                          Limit limit);
+
     // 예시: 특정 기간 내 게시글 조회
-    @Query("SELECT b FROM Board b WHERE b.boardType IN :boardTypes AND b.createdAt >= :startDate")
+    @Query(BOARDS_BY_TYPES_AND_DATE_AFTER)
     List<Board> findBoardsByTypesAndDateAfter(@Param("boardTypes") List<BoardType> boardTypes,
                                               @Param("startDate") LocalDateTime startDate);
 
+    // 전체 게시글 스트리밍 조회 (검색 색인 생성용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Board b")
+    Stream<Board> streamAll();
+
+    // 특정 기간 내 게시글 스트리밍 조회 (전체 목록을 메모리에 올리지 않음, 트랜잭션 안에서 사용 후 close 필요)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(BOARDS_BY_TYPES_AND_DATE_AFTER)
+    Stream<Board> streamBoardsByTypesAndDateAfter(@Param("boardTypes") List<BoardType> boardTypes,
+                                                  @Param("startDate") LocalDateTime startDate);
+
+    // 기간 조건 없이 게시글 스트리밍 조회 (생성일이 비어 있는 이전 데이터도 포함)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Board b WHERE b.boardType IN :boardTypes")
+    Stream<Board> streamBoardsByTypes(@Param("boardTypes") List<BoardType> boardTypes);
+
 
 }
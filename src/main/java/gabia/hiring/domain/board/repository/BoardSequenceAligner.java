@@ -0,0 +1,38 @@
+package gabia.hiring.domain.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * board_seq 시퀀스를 기존 게시글 id 이후로 맞춤 (MariaDB)
+ *
+ * 게시글 id 생성 방식을 AUTO_INCREMENT(IDENTITY)에서 시퀀스로 바꾸면서
+ * 새 시퀀스가 1부터 시작하면 기존 게시글 id와 충돌하므로, 시작 시 MAX(board_id) 이후로 이동
+ * SETVAL 은 현재 값보다 작은 값으로는 되돌리지 않으므로 매번 실행해도 안전함
+ *
+ * 스키마(시퀀스) 생성 이후에 실행되도록 entityManagerFactory 에 의존
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "board.id-sequence.align-on-startup", havingValue = "true")
+public class BoardSequenceAligner implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(board_id), 0) FROM board", Long.class);
+
+        // SETVAL 인자는 바인딩 파라미터를 지원하지 않으므로 조회한 숫자를 그대로 사용
+        jdbcTemplate.queryForObject("SELECT SETVAL(board_seq, " + maxId + ")", Long.class);
+
+        log.info("board_seq 시퀀스 정렬 완료 - 기존 최대 id: {}", maxId);
+    }
+}
@@ -0,0 +1,121 @@
+package gabia.hiring.domain.board.repository;
+
+import gabia.hiring.domain.board.cache.BoardSnapshot;
+import gabia.hiring.domain.board.dto.BoardCursor;
+import gabia.hiring.domain.board.dto.BoardSummaryResponse;
+import gabia.hiring.domain.board.entity.BoardType;
+import gabia.hiring.global.reactive.ReactiveDatabase;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 게시판 조회 전용 R2DBC 레포지토리 (논블로킹)
+ * 쿼리와 정렬 기준은 BoardRepository 의 커서 조회와 동일
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive.read.enabled", havingValue = "true")
+public class ReactiveBoardRepository {
+
+    private static final String SUMMARY_COLUMNS =
+            "SELECT board_id, title, board_type, created_at, updated_at FROM board ";
+
+    private final ReactiveDatabase reactiveDatabase;
+
+    /**
+     * 게시글 단건 조회
+     */
+    public Mono<BoardSnapshot> findById(Long boardId) {
+        return reactiveDatabase.getDatabaseClient()
+                .sql("SELECT board_id, title, content, board_type, user_id, created_at, updated_at, version "
+                        + "FROM board WHERE board_id = :boardId")
+                .bind("boardId", boardId)
+                .map(row -> new BoardSnapshot(
+                        row.get("board_id", Long.class),
+                        row.get("title", String.class),
+                        row.get("content", String.class),
+                        BoardType.valueOf(row.get("board_type", String.class)),
+                        row.get("user_id", Long.class),
+                        row.get("created_at", LocalDateTime.class),
+                        row.get("updated_at", LocalDateTime.class),
+                        row.get("version", Long.class)))
+                .one();
+    }
+
+    /**
+     * 커서 조회 첫 페이지 (최신순)
+     */
+    public Flux<BoardSummaryResponse> findFirstPageByTypes(Collection<BoardType> boardTypes, int limit) {
+        return reactiveDatabase.getDatabaseClient()
+                .sql(SUMMARY_COLUMNS
+                        + "WHERE board_type IN (:boardTypes) "
+                        + "ORDER BY created_at DESC, board_id DESC LIMIT :limit")
+                .bind("boardTypes", typeNames(boardTypes))
+                .bind("limit", limit)
+                .map(ReactiveBoardRepository::toSummary)
+                .all();
+    }
+
+    /**
+     * 커서 조회 다음 페이지 - (createdAt, id) 기준으로 seek, 이어서 createdAt 이 NULL 인 게시글
+     * 커서에 createdAt 이 없으면 NULL 구간 안에서 id 로 seek
+     */
+    public Flux<BoardSummaryResponse> findNextPageByTypes(Collection<BoardType> boardTypes,
+                                                          BoardCursor cursor, int limit) {
+        if (cursor.isUndated()) {
+            return reactiveDatabase.getDatabaseClient()
+                    .sql(SUMMARY_COLUMNS
+                            + "WHERE board_type IN (:boardTypes) AND created_at IS NULL AND board_id < :id "
+                            + "ORDER BY board_id DESC LIMIT :limit")
+                    .bind("boardTypes", typeNames(boardTypes))
+                    .bind("id", cursor.getId())
+                    .bind("limit", limit)
+                    .map(ReactiveBoardRepository::toSummary)
+                    .all();
+        }
+        return reactiveDatabase.getDatabaseClient()
+                .sql(SUMMARY_COLUMNS
+                        + "WHERE board_type IN (:boardTypes) "
+                        + "AND (created_at < :createdAt OR (created_at = :createdAt AND board_id < :id) "
+                        + "OR created_at IS NULL) "
+                        + "ORDER BY created_at DESC, board_id DESC LIMIT :limit")
+                .bind("boardTypes", typeNames(boardTypes))
+                .bind("createdAt", cursor.getCreatedAt())
+                .bind("id", cursor.getId())
+                .bind("limit", limit)
+                .map(ReactiveBoardRepository::toSummary)
+                .all();
+    }
+
+    /**
+     * id 목록으로 요약 조회 (검색 결과 조회용, 순서 보장하지 않음)
+     */
+    public Flux<BoardSummaryResponse> findSummariesByIdIn(Collection<Long> boardIds) {
+        return reactiveDatabase.getDatabaseClient()
+                .sql(SUMMARY_COLUMNS + "WHERE board_id IN (:boardIds)")
+                .bind("boardIds", boardIds)
+                .map(ReactiveBoardRepository::toSummary)
+                .all();
+    }
+
+    private static BoardSummaryResponse toSummary(Readable row) {
+        return new BoardSummaryResponse(
+                row.get("board_id", Long.class),
+                row.get("title", String.class),
+                BoardType.valueOf(row.get("board_type", String.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class));
+    }
+
+    private static List<String> typeNames(Collection<BoardType> boardTypes) {
+        return boardTypes.stream().map(Enum::name).toList();
+    }
+}
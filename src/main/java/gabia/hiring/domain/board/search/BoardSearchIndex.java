@@ -0,0 +1,274 @@
+package gabia.hiring.domain.board.search;
+
+import gabia.hiring.domain.board.entity.BoardType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시판 제목/내용 역색인 (in-process)
+ * LIKE '%검색어%' 전체 스캔 대신 토큰별 게시글 목록(posting)만 확인하므로
+ * 검색 비용이 테이블 크기가 아니라 일치하는 게시글 수에 비례
+ *
+ * - 색인: n-gram(2-gram + 1-gram) 토큰 → (게시글 id → 제목/내용 출현 횟수)
+ * - 검색: 검색어의 모든 토큰을 포함하는 게시글만 반환 (가장 짧은 posting 부터 교집합)
+ * - 정렬: 제목 출현 횟수에 가중치를 준 점수 순, 동점이면 최신 게시글(id 큰 순) 우선
+ * - 갱신: 쓰기는 하나의 락으로 직렬화, 읽기는 락 없이 수행
+ * - 재색인: 별도 색인을 만든 뒤 한 번에 교체 (재색인 중에도 기존 색인으로 검색, 변경 이벤트는 양쪽에 반영)
+ *
+ * 인스턴스별 메모리 색인이므로 다중 서버 환경에서는 서버마다 별도로 유지됨
+ */
+@Component
+public class BoardSearchIndex {
+
+    // 제목에 나온 토큰의 점수 가중치
+    private static final int TITLE_WEIGHT = 3;
+
+    // posting 값: 상위 16비트 제목 출현 횟수, 하위 16비트 내용 출현 횟수
+    private static final int FREQUENCY_BITS = 16;
+    private static final int MAX_FREQUENCY = (1 << FREQUENCY_BITS) - 1;
+
+    private final Object writeLock = new Object();
+
+    // 검색에 사용하는 색인 (재색인이 끝나면 새 색인으로 한 번에 교체)
+    private volatile IndexData current = new IndexData();
+
+    // 재색인 중에만 존재 (writeLock 으로 보호)
+    private IndexData rebuilding;
+    // 재색인 중 변경 이벤트로 반영된 게시글 id (DB 스트림의 이전 값으로 덮어쓰지 않도록)
+    private Set<Long> changedDuringRebuild;
+
+    /**
+     * 게시글 색인 (이미 색인된 게시글이면 교체)
+     * 재색인 중이면 새 색인에도 함께 반영
+     */
+    public void index(Long boardId, BoardType boardType, String title, String content) {
+        TokenizedBoard board = TokenizedBoard.of(boardType, title, content);
+
+        synchronized (writeLock) {
+            current.put(boardId, board);
+            if (rebuilding != null) {
+                rebuilding.put(boardId, board);
+                changedDuringRebuild.add(boardId);
+            }
+        }
+    }
+
+    /**
+     * 게시글 색인 제거
+     */
+    public void remove(Long boardId) {
+        synchronized (writeLock) {
+            current.remove(boardId);
+            if (rebuilding != null) {
+                rebuilding.remove(boardId);
+                changedDuringRebuild.add(boardId);
+            }
+        }
+    }
+
+    /**
+     * 재색인 시작 - 검색은 완료될 때까지 기존 색인을 그대로 사용
+     */
+    public void beginRebuild() {
+        synchronized (writeLock) {
+            if (rebuilding != null) {
+                throw new IllegalStateException("이미 재색인 중입니다.");
+            }
+            rebuilding = new IndexData();
+            changedDuringRebuild = new HashSet<>();
+        }
+    }
+
+    /**
+     * 재색인 중인 새 색인에 DB에서 읽은 게시글 추가
+     * 재색인 시작 이후 변경 이벤트로 이미 반영된 게시글은 건너뜀 (이벤트 쪽이 더 최신)
+     */
+    public void indexForRebuild(Long boardId, BoardType boardType, String title, String content) {
+        TokenizedBoard board = TokenizedBoard.of(boardType, title, content);
+
+        synchronized (writeLock) {
+            if (rebuilding == null) {
+                throw new IllegalStateException("재색인 중이 아닙니다.");
+            }
+            if (!changedDuringRebuild.contains(boardId)) {
+                rebuilding.put(boardId, board);
+            }
+        }
+    }
+
+    /**
+     * 재색인 완료 - 새 색인으로 한 번에 교체
+     */
+    public void completeRebuild() {
+        synchronized (writeLock) {
+            if (rebuilding == null) {
+                throw new IllegalStateException("재색인 중이 아닙니다.");
+            }
+            current = rebuilding;
+            rebuilding = null;
+            changedDuringRebuild = null;
+        }
+    }
+
+    /**
+     * 재색인 취소 (실패 시) - 기존 색인을 계속 사용
+     */
+    public void abortRebuild() {
+        synchronized (writeLock) {
+            rebuilding = null;
+            changedDuringRebuild = null;
+        }
+    }
+
+    public int size() {
+        return current.documents.size();
+    }
+
+    /**
+     * 검색어로 게시글 id 검색
+     *
+     * @param query 검색어
+     * @param accessibleTypes 조회 가능한 게시판 종류 (권한 필터)
+     * @param limit 최대 결과 수
+     * @return 점수 순으로 정렬된 게시글 id
+     */
+    public List<Long> search(String query, Collection<BoardType> accessibleTypes, int limit) {
+        Set<String> queryGrams = BoardSearchTokenizer.tokenizeQuery(query).keySet();
+        if (queryGrams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // 검색 도중 재색인이 완료되어도 같은 색인에서 끝까지 조회
+        IndexData data = current;
+
+        // 하나라도 색인에 없는 토큰이 있으면 일치하는 게시글이 없음
+        List<Map<Long, Integer>> matchedPostings = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            Map<Long, Integer> posting = data.postings.get(gram);
+            if (posting == null || posting.isEmpty()) {
+                return List.of();
+            }
+            matchedPostings.add(posting);
+        }
+        matchedPostings.sort(Comparator.comparingInt(Map::size));
+
+        // 점수가 낮은 결과부터 꺼내지는 상위 limit 개 힙
+        PriorityQueue<ScoredBoard> topBoards = new PriorityQueue<>(limit + 1, ScoredBoard.ORDER);
+        Map<Long, Integer> smallest = matchedPostings.get(0);
+
+        for (Map.Entry<Long, Integer> entry : smallest.entrySet()) {
+            Long boardId = entry.getKey();
+            IndexedBoard document = data.documents.get(boardId);
+            if (document == null || !accessibleTypes.contains(document.boardType())) {
+                continue;
+            }
+
+            long score = score(entry.getValue());
+            boolean matchesAll = true;
+            for (int i = 1; i < matchedPostings.size(); i++) {
+                Integer frequencies = matchedPostings.get(i).get(boardId);
+                if (frequencies == null) {
+                    matchesAll = false;
+                    break;
+                }
+                score += score(frequencies);
+            }
+
+            if (matchesAll) {
+                topBoards.offer(new ScoredBoard(boardId, score));
+                if (topBoards.size() > limit) {
+                    topBoards.poll();
+                }
+            }
+        }
+
+        List<ScoredBoard> ranked = new ArrayList<>(topBoards);
+        ranked.sort(ScoredBoard.ORDER.reversed());
+
+        List<Long> boardIds = new ArrayList<>(ranked.size());
+        for (ScoredBoard scoredBoard : ranked) {
+            boardIds.add(scoredBoard.boardId());
+        }
+        return boardIds;
+    }
+
+    private static long score(int frequencies) {
+        int titleFrequency = frequencies >>> FREQUENCY_BITS;
+        int contentFrequency = frequencies & MAX_FREQUENCY;
+        return (long) titleFrequency * TITLE_WEIGHT + contentFrequency;
+    }
+
+    /**
+     * 토큰 → posting, 게시글 id → 색인 정보
+     * 쓰기는 writeLock 안에서만, 읽기는 락 없이 수행
+     */
+    private static class IndexData {
+
+        private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+        private final Map<Long, IndexedBoard> documents = new ConcurrentHashMap<>();
+
+        private void put(Long boardId, TokenizedBoard board) {
+            remove(boardId);
+
+            for (String gram : board.grams()) {
+                int titleFrequency = Math.min(board.titleGrams().getOrDefault(gram, 0), MAX_FREQUENCY);
+                int contentFrequency = Math.min(board.contentGrams().getOrDefault(gram, 0), MAX_FREQUENCY);
+
+                postings.computeIfAbsent(gram, key -> new ConcurrentHashMap<>())
+                        .put(boardId, (titleFrequency << FREQUENCY_BITS) | contentFrequency);
+            }
+            documents.put(boardId, new IndexedBoard(board.boardType(), board.grams()));
+        }
+
+        private void remove(Long boardId) {
+            IndexedBoard previous = documents.remove(boardId);
+            if (previous == null) {
+                return;
+            }
+
+            for (String gram : previous.grams()) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting != null) {
+                    posting.remove(boardId);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    // 락 밖에서 미리 토큰화한 게시글
+    private record TokenizedBoard(BoardType boardType, Map<String, Integer> titleGrams,
+                                  Map<String, Integer> contentGrams, Set<String> grams) {
+
+        static TokenizedBoard of(BoardType boardType, String title, String content) {
+            Map<String, Integer> titleGrams = BoardSearchTokenizer.tokenize(title);
+            Map<String, Integer> contentGrams = BoardSearchTokenizer.tokenize(content);
+
+            Set<String> grams = new HashSet<>(titleGrams.keySet());
+            grams.addAll(contentGrams.keySet());
+            return new TokenizedBoard(boardType, titleGrams, contentGrams, grams);
+        }
+    }
+
+    // 색인된 게시글 정보 (권한 필터용 종류, 제거용 토큰 목록)
+    private record IndexedBoard(BoardType boardType, Set<String> grams) {
+    }
+
+    private record ScoredBoard(Long boardId, long score) {
+
+        static final Comparator<ScoredBoard> ORDER = Comparator
+                .comparingLong(ScoredBoard::score)
+                .thenComparing(ScoredBoard::boardId);
+    }
+}
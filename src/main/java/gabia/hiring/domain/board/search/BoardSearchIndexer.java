@@ -0,0 +1,88 @@
+package gabia.hiring.domain.board.search;
+
+import gabia.hiring.domain.board.entity.Board;
+import gabia.hiring.domain.board.event.BoardChangedEvent;
+import gabia.hiring.domain.board.repository.BoardRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 게시판 검색 색인 갱신 담당
+ * 1. 애플리케이션 시작 시 DB의 전체 게시글로 색인 생성
+ * 2. 게시글 생성/수정/삭제 트랜잭션이 커밋되면 해당 게시글만 색인 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndexer {
+
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardRepository boardRepository;
+    private final EntityManager entityManager;
+
+    @Value("${board.search.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    /**
+     * 게시글 변경 이벤트 처리 (커밋된 변경만 색인에 반영)
+     */
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getChangeType() == BoardChangedEvent.ChangeType.DELETED) {
+            boardSearchIndex.remove(event.getBoardId());
+        } else {
+            boardSearchIndex.index(event.getBoardId(), event.getBoardType(), event.getTitle(), event.getContent());
+        }
+    }
+
+    /**
+     * 시작 시 전체 재색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB의 전체 게시글로 색인 재생성
+     * 스트리밍으로 읽고 색인한 엔티티는 바로 분리하여 메모리 사용량을 일정하게 유지
+     * 새 색인을 별도로 만든 뒤 교체하므로 재색인 중에도 검색 결과가 비지 않음
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        boardSearchIndex.beginRebuild();
+
+        boolean completed = false;
+        try (Stream<Board> boards = boardRepository.streamAll()) {
+            Iterator<Board> iterator = boards.iterator();
+            while (iterator.hasNext()) {
+                Board board = iterator.next();
+                boardSearchIndex.indexForRebuild(board.getId(), board.getBoardType(), board.getTitle(), board.getContent());
+                entityManager.detach(board);
+            }
+            boardSearchIndex.completeRebuild();
+            completed = true;
+        } finally {
+            if (!completed) {
+                boardSearchIndex.abortRebuild();
+            }
+        }
+
+        log.info("게시판 검색 색인 생성 완료 - 총 {}개, {}ms",
+                boardSearchIndex.size(), System.currentTimeMillis() - startTime);
+    }
+}
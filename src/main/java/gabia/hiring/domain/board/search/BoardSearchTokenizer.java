@@ -0,0 +1,85 @@
+package gabia.hiring.domain.board.search;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 게시판 검색용 n-gram 토크나이저
+ * 형태소 분석 없이 한글/영문 모두 부분 일치 검색이 되도록 2-gram 단위로 분리
+ *
+ * 예) "백엔드 개발자" → 게시글: [백엔, 엔드, 개발, 발자, 백, 엔, 드, 개, 발, 자], 검색어: [백엔, 엔드, 개발, 발자]
+ * - 문자/숫자 이외의 문자는 구분자로 처리
+ * - 영문은 소문자로 변환
+ * - 게시글은 1-gram 도 함께 색인 (한 글자 검색어가 긴 단어 안의 글자와도 일치하도록)
+ * - 검색어는 2-gram 으로 분리하고, 한 글자 단어만 1-gram 으로 사용
+ */
+public final class BoardSearchTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+    private static final int UNIGRAM_SIZE = 1;
+
+    private BoardSearchTokenizer() {
+    }
+
+    /**
+     * 게시글 제목/내용을 색인할 토큰과 출현 횟수로 분리 (2-gram + 1-gram)
+     *
+     * @param text 분리할 텍스트 (null 허용)
+     * @return 토큰별 출현 횟수
+     */
+    public static Map<String, Integer> tokenize(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 검색어를 토큰으로 분리 (2-gram, 한 글자 단어는 1-gram)
+     *
+     * @param query 검색어 (null 허용)
+     * @return 토큰별 출현 횟수
+     */
+    public static Map<String, Integer> tokenizeQuery(String query) {
+        return tokenize(query, false);
+    }
+
+    private static Map<String, Integer> tokenize(String text, boolean includeUnigrams) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        if (text == null || text.isBlank()) {
+            return frequencies;
+        }
+
+        int[] codePoints = text.toLowerCase(Locale.ROOT).codePoints().toArray();
+        int termStart = -1;
+
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean wordChar = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+
+            if (wordChar && termStart < 0) {
+                termStart = i;
+            } else if (!wordChar && termStart >= 0) {
+                addTermGrams(codePoints, termStart, i, frequencies);
+                if (includeUnigrams && i - termStart >= GRAM_SIZE) {
+                    addGrams(codePoints, termStart, i, UNIGRAM_SIZE, frequencies);
+                }
+                termStart = -1;
+            }
+        }
+
+        return frequencies;
+    }
+
+    private static void addTermGrams(int[] codePoints, int start, int end, Map<String, Integer> frequencies) {
+        if (end - start < GRAM_SIZE) {
+            frequencies.merge(new String(codePoints, start, end - start), 1, Integer::sum);
+            return;
+        }
+
+        addGrams(codePoints, start, end, GRAM_SIZE, frequencies);
+    }
+
+    private static void addGrams(int[] codePoints, int start, int end, int size, Map<String, Integer> frequencies) {
+        for (int i = start; i + size <= end; i++) {
+            frequencies.merge(new String(codePoints, i, size), 1, Integer::sum);
+        }
+    }
+}
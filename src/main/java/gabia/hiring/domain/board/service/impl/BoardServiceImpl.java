@@ -1,28 +1,59 @@
 package gabia.hiring.domain.board.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import gabia.hiring.domain.board.cache.BoardCache;
+import gabia.hiring.domain.board.cache.BoardSnapshot;
+import gabia.hiring.domain.board.dto.BoardBulkItemResult;
+import gabia.hiring.domain.board.dto.BoardBulkRequest;
+import gabia.hiring.domain.board.dto.BoardBulkResponse;
+import gabia.hiring.domain.board.dto.BoardCursor;
 import gabia.hiring.domain.board.dto.BoardRequest;
 import gabia.hiring.domain.board.dto.BoardResponse;
+import gabia.hiring.domain.board.dto.BoardSliceResponse;
+import gabia.hiring.domain.board.dto.BoardSummaryResponse;
 import gabia.hiring.domain.board.dto.BoardUpdateRequest;
 import gabia.hiring.domain.board.entity.Board;
 import gabia.hiring.domain.board.entity.BoardType;
+import gabia.hiring.domain.board.event.BoardChangedEvent;
+import gabia.hiring.domain.board.feed.LatestBoardFeed;
+import gabia.hiring.domain.board.policy.BoardAccessPolicy;
+import gabia.hiring.domain.board.policy.BoardAction;
 import gabia.hiring.domain.board.repository.BoardRepository;
-import gabia.hiring.domain.user.entity.Role;
+import gabia.hiring.domain.board.search.BoardSearchIndex;
 import gabia.hiring.domain.user.entity.User;
 import gabia.hiring.domain.user.repository.UserRepository;
 import gabia.hiring.global.exception.ErrorCode;
 import gabia.hiring.global.exception.HiringException;
-import jakarta.persistence.EnumType;
+import gabia.hiring.global.security.dto.UserPrincipal;
+import gabia.hiring.global.security.utils.SecurityUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -30,21 +61,40 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BoardServiceImpl {
 
+    // 검색 결과 최대 개수
+    public static final int SEARCH_RESULT_LIMIT = 100;
+
+    // 일괄 생성 시 flush/clear 단위 (hibernate.jdbc.batch_size, board_seq allocationSize 와 동일)
+    private static final int BULK_FLUSH_SIZE = 50;
+
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardCache boardCache;
+    private final LatestBoardFeed latestBoardFeed;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    // Spring Boot 가 등록하는 기본 TransactionTemplate (캐시 적재용)
+    // readOnly=false 트랜잭션이므로 ReadWriteRoutingDataSource 가 primary 로 라우팅
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 게시판 생성
      */
     @Transactional
-    public BoardResponse createBoard(BoardRequest boardRequest,BoardType boardType, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new HiringException(ErrorCode.NOT_FOUND_USER));
+    public BoardResponse createBoard(BoardRequest boardRequest) {
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        BoardType boardType = boardRequest.getBoardType();
 
-        if (!canCreateBoard(boardType, user.getRole())) {
+        if (!principal.can(boardType, BoardAction.CREATE)) {
             throw new HiringException(ErrorCode.INVALID_AUTHORITY);
         }
 
+        // 작성자는 FK로만 필요하므로 users 조회 없이 프록시 참조 사용
+        User user = userRepository.getReferenceById(principal.getId());
+
         Board board = Board.builder()
                 .title(boardRequest.getTitle())
                 .content(boardRequest.getContent())
@@ -53,45 +103,171 @@ public class BoardServiceImpl {
                 .build();
 
         Board savedBoard = boardRepository.save(board);
-        log.info("게시판 생성 성공 - ID: {}, 제목: {}", savedBoard.getId(), savedBoard.getTitle());
-
+        eventPublisher.publishEvent(BoardChangedEvent.created(savedBoard));
+        log.atInfo()
+                .setMessage("게시판 생성")
+                .addKeyValue("boardId", savedBoard.getId())
+                .addKeyValue("boardType", boardType)
+                .log();
 
         return new BoardResponse(savedBoard);
     }
 
+    /**
+     * 게시판 일괄 생성
+     * 작성자 존재 여부와 게시판 종류별 작성 권한은 요청 전체에서 한 번만 확인하고,
+     * 항목별로 검증하여 잘못된 항목만 거부 (나머지는 저장)
+     *
+     * 게시글 id는 시퀀스(pooled)로 미리 할당되므로 INSERT 가 JDBC 배치로 묶여 실행되고,
+     * BULK_FLUSH_SIZE 마다 flush/clear 하여 영속성 컨텍스트가 커지지 않도록 함
+     * (clear 로 작성자 프록시도 준영속이 되므로 clear 할 때마다 작성자 참조를 다시 얻음)
+     */
+    @Transactional
+    public BoardBulkResponse createBoards(BoardBulkRequest bulkRequest) {
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+
+        if (!userRepository.existsById(principal.getId())) {
+            throw new HiringException(ErrorCode.NOT_FOUND_USER);
+        }
+        User user = userRepository.getReferenceById(principal.getId());
+
+        List<BoardRequest> requests = bulkRequest.getBoards();
+        List<BoardBulkItemResult> results = new ArrayList<>(requests.size());
+        List<BoardChangedEvent> createdEvents = new ArrayList<>(requests.size());
+        int pendingCount = 0;
+
+        for (int index = 0; index < requests.size(); index++) {
+            BoardRequest request = requests.get(index);
+
+            if (request == null) {
+                results.add(BoardBulkItemResult.rejected(index, ErrorCode.INVALID_INPUT_VALUE,
+                        ErrorCode.INVALID_INPUT_VALUE.getMessage()));
+                continue;
+            }
+
+            String violation = firstViolation(validator.validate(request));
+            if (violation != null) {
+                results.add(BoardBulkItemResult.rejected(index, ErrorCode.INVALID_INPUT_VALUE, violation));
+                continue;
+            }
+
+            if (!principal.can(request.getBoardType(), BoardAction.CREATE)) {
+                results.add(BoardBulkItemResult.rejected(index, ErrorCode.INVALID_AUTHORITY,
+                        ErrorCode.INVALID_AUTHORITY.getMessage()));
+                continue;
+            }
+
+            Board board = Board.builder()
+                    .title(request.getTitle())
+                    .content(request.getContent())
+                    .user(user)
+                    .boardType(request.getBoardType())
+                    .build();
+
+            // 엔티티 제약(제목/내용 길이) 위반 시 flush 에서 배치 전체가 실패하므로 미리 검증
+            violation = firstViolation(validator.validate(board));
+            if (violation != null) {
+                results.add(BoardBulkItemResult.rejected(index, ErrorCode.INVALID_INPUT_VALUE, violation));
+                continue;
+            }
+
+            entityManager.persist(board);
+            createdEvents.add(BoardChangedEvent.created(board));
+            results.add(BoardBulkItemResult.created(index, board.getId()));
+
+            if (++pendingCount == BULK_FLUSH_SIZE) {
+                entityManager.flush();
+                entityManager.clear();
+                user = userRepository.getReferenceById(principal.getId());
+                pendingCount = 0;
+            }
+        }
+        entityManager.flush();
+
+        // 모든 배치가 flush 된 뒤에 한 번에 발행 (중간 배치가 실패하면 어떤 이벤트도 발행되지 않음)
+        createdEvents.forEach(eventPublisher::publishEvent);
+
+        BoardBulkResponse response = BoardBulkResponse.of(results);
+        log.atInfo()
+                .setMessage("게시판 일괄 생성")
+                .addKeyValue("requested", response.getRequested())
+                .addKeyValue("created", response.getCreated())
+                .addKeyValue("rejected", response.getRejected())
+                .log();
+
+        return response;
+    }
+
     /**
      * 게시판 검색
+     * 제목/내용 역색인에서 권한에 맞는 게시글 id를 점수 순으로 찾은 뒤 해당 게시글의 목록 컬럼만 조회
      */
 //    @Override
-    public List<BoardResponse> searchBoards(String title) {
-        List<Board> searchBoardList = boardRepository.findByTitleContaining(title);
-
-        if (searchBoardList.isEmpty()) {
-            log.info("검색 결과가 없습니다 - 검색어: {}", title);
-        } else {
-            log.info("검색 완료 - 검색어: {}, 결과: {}개", title, searchBoardList.size());
+    public List<BoardSummaryResponse> searchBoards(String keyword) {
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        // 색인 문서마다 contains 검사를 하므로 EnumSet 사용
+        Set<BoardType> accessibleTypes = BoardAccessPolicy.readableTypeSet(principal.getRole());
+
+        List<Long> boardIds = boardSearchIndex.search(keyword, accessibleTypes, SEARCH_RESULT_LIMIT);
+
+        if (boardIds.isEmpty()) {
+            log.atInfo()
+                    .setMessage("게시판 검색")
+                    .addKeyValue("keyword", keyword)
+                    .addKeyValue("results", 0)
+                    .log();
+            return List.of();
         }
 
-        return searchBoardList.stream()
-                .map(board -> new BoardResponse(board))        // .map(BoardResponse::from)
+        // id 목록 조회는 순서를 보장하지 않으므로 검색 점수 순서로 다시 정렬
+        Map<Long, BoardSummaryResponse> boardsById = boardRepository.findSummariesByIdIn(boardIds).stream()
+                .collect(Collectors.toMap(BoardSummaryResponse::getId, Function.identity()));
+
+        List<BoardSummaryResponse> responses = boardIds.stream()
+                .map(boardsById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+
+        log.atInfo()
+                .setMessage("게시판 검색")
+                .addKeyValue("keyword", keyword)
+                .addKeyValue("results", responses.size())
+                .log();
+
+        return responses;
     }
 
     /**
      * 게시판 수정
+     * 버전 비교 후 UPDATE ... WHERE version = ? 로 반영하므로 동시 수정은 잠금 없이 한쪽만 성공
+     * (먼저 커밋된 수정이 있으면 BOARD_VERSION_MISMATCH, 412)
+     *
+     * @param expectedVersion 클라이언트가 조회한 버전 (If-Match, null 이면 비교하지 않음)
      */
 //    @Override
     @Transactional
-    public BoardResponse updateBoard(Long boardId, BoardUpdateRequest boardUpdateRequest) {
-        Board board = findBoardById(boardId);
+    public BoardResponse updateBoard(Long boardId, BoardUpdateRequest boardUpdateRequest, Long expectedVersion) {
+        Board board = findManageableBoard(boardId);
 
+        if (!board.isVersion(expectedVersion)) {
+            throw new HiringException(ErrorCode.BOARD_VERSION_MISMATCH);
+        }
 
         board.updateBoard(boardUpdateRequest.getTitle(), boardUpdateRequest.getContent());
 
-        log.info("게시판 수정 성공 - ID: {}, 제목: {}", boardId, boardUpdateRequest.getTitle());
+        // 조회 이후 다른 트랜잭션이 먼저 수정했다면 여기서 버전 비교가 실패 (ObjectOptimisticLockingFailureException)
+        // flush 후에는 증가한 버전이 엔티티에 반영되어 응답 ETag 로 사용
+        boardRepository.saveAndFlush(board);
+        eventPublisher.publishEvent(BoardChangedEvent.updated(board));
+
+        log.atInfo()
+                .setMessage("게시판 수정")
+                .addKeyValue("boardId", boardId)
+                .addKeyValue("version", board.getVersion())
+                .log();
 
         // from 메서드를 사용하여 DTO 변환
-        return BoardResponse(board);
+        return new BoardResponse(board);
     }
 
     /**
@@ -100,125 +276,197 @@ public class BoardServiceImpl {
 //    @Override
     @Transactional
     public void deleteBoard(Long boardId) {
-        Board board = findBoardById(boardId);
+        Board board = findManageableBoard(boardId);
 
-        log.info("게시판 삭제 - ID: {}, 제목: {}", boardId, board.getTitle());
+        log.atInfo()
+                .setMessage("게시판 삭제")
+                .addKeyValue("boardId", boardId)
+                .log();
         boardRepository.delete(board);
+        eventPublisher.publishEvent(BoardChangedEvent.deleted(board));
     }
 
     /**
      * 게시판 단건 조회
+     * 캐시된 스냅샷으로 응답하고, 캐시 미스일 때만 board를 조회
+     * 트랜잭션은 캐시 미스 시 스냅샷 적재에서만 시작 (적중 시 커넥션을 사용하지 않음)
+     * 응답의 version 은 ETag 로 사용되므로 캐시 적중 + If-None-Match 일치 시 DB 조회 없이 304
+     *
+     * 캐시 미스는 replica 가 아닌 primary 에서 적재 (쓰기 트랜잭션 = primary 라우팅)
+     * 수정 커밋 직후 무효화된 키를 복제 지연 중인 replica 에서 다시 읽으면
+     * 이전 버전 스냅샷이 만료 없이 캐시되어 이후 If-Match 가 계속 412로 실패함
      */
 //    @Override
-    public BoardResponse getBoard(Long boardId, Long userId) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new HiringException(ErrorCode.NOT_FOUND_BOARD));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new HiringException(ErrorCode.NOT_FOUND_USER));
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public BoardResponse getBoard(Long boardId) {
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        BoardSnapshot snapshot = boardCache.get(boardId, id ->
+                transactionTemplate.execute(status -> BoardSnapshot.from(findBoardById(id))));
 
-        if (!board.canAccess(user.getRole())) {
+        if (!snapshot.canAccess(principal.getRole())) {
             throw new HiringException(ErrorCode.INVALID_AUTHORITY);
         }
 
-        log.info("게시판 조회 - ID: {}", boardId);
+        log.atDebug()
+                .setMessage("게시판 조회")
+                .addKeyValue("boardId", boardId)
+                .log();
 
-        // from 메서드를 사용하여 DTO 변환
-        return new BoardResponse(board);
+        return snapshot.toResponse();
     }
 
     /**
      * 권한별 게시판 목록 조회
      */
-    public Page<BoardResponse> getAllBoardByType(BoardType boardType, Long userId, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new HiringException(ErrorCode.NOT_FOUND_USER));
+    public Page<BoardResponse> getAllBoardByType(BoardType boardType, Pageable pageable) {
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
 
-        List<BoardType> accessibleTypes = getAccessibleBoardTypes(user.getRole());
+        List<BoardType> accessibleTypes = principal.readableBoardTypes();
 
-        if (!canAccessBoardType(boardType, user.getRole())) {
+        if (!principal.can(boardType, BoardAction.READ)) {
             throw new HiringException(ErrorCode.INVALID_AUTHORITY);
         }
 
+        // 작성자를 함께 조회하므로 작성자 이름 매핑 시 추가 쿼리 없음
         Page<Board> boards = boardRepository.findByBoardTypeIn(accessibleTypes, pageable);
 
-        return boards.map(board -> new BoardResponse(board));
+        return boards.map(BoardResponse::withAuthor);
     }
     /**
-     * 전체 게시판 조회
+     * 권한별 게시판 목록 커서 기반 조회
+     * (createdAt, id) 기준으로 seek 하므로 페이지 깊이와 무관하게 비용이 일정하고 COUNT 쿼리가 없음
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ 100)
      */
-//    @Override
-    public List<BoardResponse> getAllBoards() {
-        List<Board> boards = boardRepository.findAll();
-        log.info("전체 게시판 조회 - 총 {}개", boards.size());
+    public BoardSliceResponse getBoardsByCursor(String cursor, int size) {
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        List<BoardType> accessibleTypes = principal.readableBoardTypes();
 
-        return boards.stream()
-                .map(board -> new BoardResponse(board))
-                .collect(Collectors.toList());
+        int pageSize = BoardSliceResponse.pageSizeOf(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<BoardSummaryResponse> boards;
+        if (cursor == null || cursor.isBlank()) {
+            boards = boardRepository.findFirstPageByTypes(accessibleTypes, limit);
+        } else {
+            boards = boardRepository.findNextPageByTypes(accessibleTypes, BoardCursor.decode(cursor), limit);
+        }
+
+        return BoardSliceResponse.of(boards, pageSize);
     }
 
-    private Board findBoardById(Long boardId) {
-        return boardRepository.findById(boardId)
-                .orElseThrow(() -> new HiringException(ErrorCode.NOT_FOUND_BOARD));
+    /**
+     * 권한별 최신 게시판 목록 조회
+     * 메모리에 유지되는 피드에서 응답하므로 DB 조회와 트랜잭션이 없음
+     *
+     * @param size 조회 개수 (최대 board.feed.size)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<BoardSummaryResponse> getLatestBoards(int size) {
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        return latestBoardFeed.latest(principal.getRole(), size);
     }
 
+    /**
+     * 게시판 NDJSON 내보내기
+     * DB 커서를 스트리밍으로 읽어 한 줄에 게시글 하나씩 바로 출력하므로 메모리 사용량이 일정함
+     * 출력한 엔티티는 즉시 영속성 컨텍스트에서 분리
+     *
+     * @param boardType 게시판 종류 필터 (null 이면 접근 가능한 전체)
+     * @param startDate 생성일 필터 (null 이면 전체 기간)
+     * @param outputStream 응답 출력 스트림
+     * @return 출력한 게시글 수
+     */
+    public long exportBoards(BoardType boardType, LocalDateTime startDate, OutputStream outputStream) throws IOException {
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+
+        List<BoardType> exportTypes;
+        if (boardType == null) {
+            exportTypes = principal.readableBoardTypes();
+        } else if (principal.can(boardType, BoardAction.READ)) {
+            exportTypes = List.of(boardType);
+        } else {
+            throw new HiringException(ErrorCode.INVALID_AUTHORITY);
+        }
+
+        ObjectWriter writer = objectMapper.writerFor(BoardResponse.class);
+        BufferedOutputStream out = new BufferedOutputStream(outputStream);
+        long count = 0;
+
+        // 기간 조건이 없으면 생성일 조건 자체를 빼서 created_at 이 NULL 인 이전 게시글도 내보냄
+        try (Stream<Board> boards = startDate != null
+                ? boardRepository.streamBoardsByTypesAndDateAfter(exportTypes, startDate)
+                : boardRepository.streamBoardsByTypes(exportTypes)) {
+            Iterator<Board> iterator = boards.iterator();
+            while (iterator.hasNext()) {
+                Board board = iterator.next();
+                out.write(writer.writeValueAsBytes(new BoardResponse(board)));
+                out.write('\n');
+
+                // 출력이 끝난 엔티티는 영속성 컨텍스트에서 분리 (메모리 누적 방지)
+                entityManager.detach(board);
+                count++;
+            }
+        }
+
+        out.flush();
+        log.atInfo()
+                .setMessage("게시판 내보내기")
+                .addKeyValue("boardTypes", exportTypes)
+                .addKeyValue("since", startDate)
+                .addKeyValue("count", count)
+                .log();
+
+        return count;
+    }
 
     /**
-     * 사용자 조회 및 검증
+     * 전체 게시판 조회
      */
-    private User validateAndGetUser(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new HiringException(ErrorCode.NOT_FOUND_USER));
+//    @Override
+    public List<BoardSummaryResponse> getAllBoards() {
+        // 목록 컬럼만 DTO로 조회 (내용 제외, 영속성 컨텍스트에 올리지 않음)
+        List<BoardSummaryResponse> boards = boardRepository.findAllSummaries();
+        log.atDebug()
+                .setMessage("전체 게시판 조회")
+                .addKeyValue("count", boards.size())
+                .log();
+
+        return boards;
+    }
+
+    private Board findBoardById(Long boardId) {
+        return boardRepository.findById(boardId)
+                .orElseThrow(() -> new HiringException(ErrorCode.NOT_FOUND_BOARD));
     }
 
     /**
-     * 권한별 접근 가능한 게시판 타입 조회
+     * 현재 사용자가 관리(수정/삭제)할 수 있는 게시판 조회
      */
-    private List<BoardType> getAccessibleBoardTypes(Role userRole) {
-        List<BoardType> accessibleTypes = new ArrayList<>();
-
-        switch (userRole) {
-            case ADMIN:
-                accessibleTypes.addAll(Arrays.asList(BoardType.values()));
-                break;
-            case COMPANY:   
-                accessibleTypes.add(BoardType.BOARD_PUBLIC);
-                accessibleTypes.add(BoardType.BOARD_COMPANY);
-                break;
-            case USER:
-                accessibleTypes.add(BoardType.BOARD_PUBLIC);
-                break;
+    private Board findManageableBoard(Long boardId) {
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        Board board = findBoardById(boardId);
+
+        if (!board.canManage(principal.getId(), principal.getRole())) {
+            throw new HiringException(ErrorCode.INVALID_AUTHORITY);
         }
 
-        return accessibleTypes;
+        return board;
     }
 
+
     /**
-     * 게시판 타입별 작성 권한 체크
+     * 사용자 조회 및 검증
      */
-    private boolean canCreateBoard(BoardType boardType, Role userRole) {
-        switch (boardType) {
-            case BOARD_PUBLIC:
-                return true; // 모든 사용자가 공개 게시판에 작성 가능
-            case BOARD_COMPANY:
-                return userRole == Role.COMPANY || userRole == Role.ADMIN;
-            case BOARD_ADMIN:
-                return userRole == Role.ADMIN;
-            default:
-                return false;
-        }
+    private User validateAndGetUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new HiringException(ErrorCode.NOT_FOUND_USER));
     }
 
-    // 게시판 타입별 접근 권한 체크
-    private boolean canAccessBoardType(BoardType boardType, Role userRole) {
-        switch (boardType) {
-            case BOARD_PUBLIC:
-                return true;
-            case BOARD_COMPANY:
-                return userRole == Role.COMPANY || userRole == Role.ADMIN;
-            case BOARD_ADMIN:
-                return userRole == Role.ADMIN;
-            default:
-                return false;
-        }
+    // 검증 결과의 첫 번째 위반 메시지 (위반이 없으면 null)
+    private String firstViolation(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
     }
 }
@@ -12,9 +12,6 @@ import java.util.List;
 
 @Entity
 @Table(name = "users", uniqueConstraints = {
-        @UniqueConstraint(
-                columnNames = {"loginId"}
-        ),
         @UniqueConstraint(
                 columnNames = {"email"}
         )
@@ -44,10 +41,11 @@ public class User {
     public List<Board> boardList = new ArrayList<>();
 
     @Builder
-    public User(String email, String password, String userName) {
+    public User(String email, String password, String userName, Role role) {
         this.email = email;
         this.password = password;
         this.userName = userName;
+        this.role = role;
     }
 
     public User toEntity(String encodePassword) {
@@ -55,6 +53,7 @@ public class User {
                 .email(this.email)
                 .password(encodePassword)
                 .userName(this.userName)
+                .role(this.role)
                 .build();
     }
 }
@@ -0,0 +1,32 @@
+package gabia.hiring.domain.user.repository;
+
+import gabia.hiring.domain.user.entity.Role;
+import gabia.hiring.global.reactive.ReactiveDatabase;
+import gabia.hiring.global.security.dto.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * 조회 전용 API의 인증 정보 조회 (논블로킹)
+ * id/권한 클레임이 없는 토큰으로 요청한 경우에만 사용
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive.read.enabled", havingValue = "true")
+public class ReactiveUserRepository {
+
+    private final ReactiveDatabase reactiveDatabase;
+
+    public Mono<UserPrincipal> findPrincipalByEmail(String email) {
+        return reactiveDatabase.getDatabaseClient()
+                .sql("SELECT id, email, role FROM users WHERE email = :email")
+                .bind("email", email)
+                .map(row -> new UserPrincipal(
+                        row.get("id", Long.class),
+                        row.get("email", String.class),
+                        Role.valueOf(row.get("role", String.class))))
+                .one();
+    }
+}
@@ -0,0 +1,62 @@
+package gabia.hiring.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import gabia.hiring.global.config.ReadWriteRoutingDataSource.Route;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 분리
+ * - primary: 쓰기 트랜잭션, 트랜잭션 밖의 JDBC 호출
+ * - replica: @Transactional(readOnly = true) 트랜잭션
+ *
+ * 풀 크기, 타임아웃, prepared statement 캐시는 datasource.primary.* / datasource.replica.* 로 각각 설정
+ * replica 는 복제 지연이 있으므로 방금 쓴 데이터를 바로 다시 읽어야 하는 경우 쓰기 트랜잭션 안에서 조회
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("datasource.primary")
+    public HikariDataSource primaryDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return routingDataSource(primaryDataSource, replicaDataSource);
+    }
+
+    /**
+     * 라우팅 DataSource 생성
+     * 커넥션 획득을 첫 SQL 실행까지 미뤄서 트랜잭션의 readOnly 플래그가 설정된 뒤에 대상을 선택
+     */
+    public static DataSource routingDataSource(DataSource primaryDataSource, DataSource replicaDataSource) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+                Route.PRIMARY, primaryDataSource,
+                Route.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
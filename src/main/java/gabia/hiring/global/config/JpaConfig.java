@@ -1,9 +1,9 @@
 package gabia.hiring.global.config;
 
-import org.springframework.beans.factory.annotation.Configurable;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
-@Configurable
+@Configuration
 @EnableJpaAuditing
 public class JpaConfig {
 
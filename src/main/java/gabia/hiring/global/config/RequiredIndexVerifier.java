@@ -0,0 +1,114 @@
+package gabia.hiring.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 시작 시 게시판 조회 패턴에 필요한 복합 인덱스가 있는지 확인
+ *
+ * 인덱스는 Flyway(V2__board_access_indexes.sql)로 만들지만, 수동으로 지워졌거나 컬럼 순서가 다르면
+ * 쿼리가 조용히 풀스캔 + filesort 로 바뀌므로 이름과 컬럼 순서를 DatabaseMetaData 로 검사
+ * - schema.index-check.fail-on-missing=true: 누락 시 시작 실패 (운영)
+ * - false: WARN 로그만 남김 (로컬/개발)
+ *
+ * Flyway 마이그레이션 이후에 실행되도록 entityManagerFactory 에 의존
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "schema.index-check.enabled", havingValue = "true")
+public class RequiredIndexVerifier implements InitializingBean {
+
+    // 테이블 → (인덱스 이름 → 앞에서부터 일치해야 하는 컬럼 순서)
+    static final Map<String, Map<String, List<String>>> REQUIRED_INDEXES = Map.of(
+            "board", Map.of(
+                    "idx_board_type_created_at", List.of("board_type", "created_at", "board_id"),
+                    "idx_board_user_created_at", List.of("user_id", "created_at")
+            )
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${schema.index-check.fail-on-missing:false}")
+    private boolean failOnMissing;
+
+    @Override
+    public void afterPropertiesSet() {
+        List<String> problems = jdbcTemplate.execute((ConnectionCallback<List<String>>) connection ->
+                verify(connection.getMetaData(), connection.getCatalog()));
+
+        if (problems == null || problems.isEmpty()) {
+            log.info("필수 인덱스 확인 완료 - {}", REQUIRED_INDEXES.keySet());
+            return;
+        }
+
+        if (failOnMissing) {
+            throw new IllegalStateException("필수 인덱스 누락: " + problems);
+        }
+        problems.forEach(problem -> log.warn("필수 인덱스 누락: {}", problem));
+    }
+
+    /**
+     * 테이블별 실제 인덱스 컬럼 순서를 읽어서 필수 인덱스와 비교
+     *
+     * @return 누락되었거나 컬럼 순서가 다른 인덱스 설명 목록
+     */
+    static List<String> verify(DatabaseMetaData metaData, String catalog) throws SQLException {
+        List<String> problems = new ArrayList<>();
+
+        for (Map.Entry<String, Map<String, List<String>>> table : REQUIRED_INDEXES.entrySet()) {
+            Map<String, List<String>> actual = readIndexColumns(metaData, catalog, table.getKey());
+
+            table.getValue().forEach((indexName, columns) -> {
+                List<String> actualColumns = actual.get(indexName.toLowerCase());
+
+                if (actualColumns == null) {
+                    problems.add(table.getKey() + "." + indexName + " 없음");
+                } else if (actualColumns.size() < columns.size()
+                        || !actualColumns.subList(0, columns.size()).equals(columns)) {
+                    problems.add(table.getKey() + "." + indexName + " 컬럼 순서 불일치 - 기대: " + columns + ", 실제: " + actualColumns);
+                }
+            });
+        }
+        return problems;
+    }
+
+    private static Map<String, List<String>> readIndexColumns(DatabaseMetaData metaData, String catalog, String table)
+            throws SQLException {
+        // 인덱스 이름 → (ORDINAL_POSITION → 컬럼 이름)
+        Map<String, TreeMap<Short, String>> positions = new HashMap<>();
+
+        try (ResultSet rs = metaData.getIndexInfo(catalog, null, table, false, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String columnName = rs.getString("COLUMN_NAME");
+                if (indexName == null || columnName == null) {
+                    continue;
+                }
+                positions.computeIfAbsent(indexName.toLowerCase(), key -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), columnName.toLowerCase());
+            }
+        }
+
+        Map<String, List<String>> columns = new HashMap<>();
+        positions.forEach((indexName, ordered) -> columns.put(indexName, new ArrayList<>(ordered.values())));
+        return columns;
+    }
+}
@@ -0,0 +1,13 @@
+package gabia.hiring.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (만료된 토큰 패밀리/폐기 항목 정리 등)
+ * 작업 스레드는 spring.task.scheduling.* 로 설정 (virtual 프로필에서는 가상 스레드)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
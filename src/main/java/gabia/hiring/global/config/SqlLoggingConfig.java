@@ -0,0 +1,21 @@
+package gabia.hiring.global.config;
+
+import gabia.hiring.global.logging.SampledSqlLogger;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 샘플링 로그 설정
+ * logging.sql.sample-rate 비율만큼 SQL을 gabia.hiring.sql 로거로 기록
+ */
+@Configuration
+public class SqlLoggingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sampledSqlLoggerCustomizer(@Value("${logging.sql.sample-rate:0}") double sampleRate) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SampledSqlLogger(sampleRate));
+    }
+}
@@ -0,0 +1,20 @@
+package gabia.hiring.global.config;
+
+import gabia.hiring.global.monitoring.QueryContextInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final QueryContextInterceptor queryContextInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // SQL 통계에 엔드포인트 태그를 붙이기 위한 요청 정보 기록
+        registry.addInterceptor(queryContextInterceptor);
+    }
+}
@@ -15,13 +15,19 @@ public enum ErrorCode {
     DUPLICATE_USERNAME("U005", "중복된 닉네임이 존재합니다.", HttpStatus.BAD_REQUEST),
 
     NOT_FOUND_BOARD("B001", "존재하지 않는 게시판입니다.", HttpStatus.NOT_FOUND),
+    BOARD_VERSION_MISMATCH("B002", "다른 사용자가 먼저 수정한 게시판입니다. 다시 조회 후 수정해주세요.", HttpStatus.PRECONDITION_FAILED),
 
 
     INVALID_TOKEN("T001", "유효하지 않은 토큰입니다.", HttpStatus.BAD_REQUEST),
+    REUSED_REFRESH_TOKEN("T002", "이미 사용된 토큰입니다. 다시 로그인해주세요.", HttpStatus.UNAUTHORIZED),
+    UNAUTHORIZED("T003", "인증이 필요합니다. 토큰을 확인해주세요.", HttpStatus.UNAUTHORIZED),
 
     // 공통 에러
     INVALID_AUTHORITY("C001", "유효하지 않은 권한입니다.", HttpStatus.BAD_REQUEST),
     INVALID_INPUT_VALUE("C002", "입력값이 유효하지 않습니다.", HttpStatus.BAD_REQUEST),
+    DB_CONNECTION_UNAVAILABLE("C003", "요청이 많아 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    TOO_MANY_REQUESTS("C004", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    AUTH_UNAVAILABLE("C005", "인증 요청이 지연되고 있습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
     INTERNAL_SERVER_ERROR("C999", "서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
 
 
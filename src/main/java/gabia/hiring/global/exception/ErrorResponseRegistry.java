@@ -0,0 +1,49 @@
+package gabia.hiring.global.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ErrorCode 별로 미리 직렬화한 에러 응답 본문 (JSON, UTF-8)
+ * 에러 응답은 ErrorCode 마다 항상 같으므로 시작 시 한 번만 직렬화하고,
+ * 401/429 처럼 대량으로 발생할 수 있는 거부 응답을 요청마다 ObjectMapper/Map/문자열 생성 없이 바이트 그대로 기록
+ *
+ * 사용처: JwtAuthenticationEntryPoint, RateLimitFilter, GlobalExceptionHandler, 조회 전용 API(WebFlux)
+ */
+@Component
+public class ErrorResponseRegistry {
+
+    private final Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+
+    public ErrorResponseRegistry(ObjectMapper objectMapper) throws JsonProcessingException {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            bodies.put(errorCode, objectMapper.writeValueAsBytes(new ErrorResponse(errorCode)));
+        }
+    }
+
+    /**
+     * 직렬화된 응답 본문 (공유 배열이므로 수정하면 안 됨)
+     */
+    public byte[] get(ErrorCode errorCode) {
+        return bodies.get(errorCode);
+    }
+
+    /**
+     * 필터/EntryPoint 처럼 컨트롤러 밖에서 에러 응답 기록
+     */
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = bodies.get(errorCode);
+
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -1,16 +1,67 @@
 package gabia.hiring.global.exception;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+/**
+ * 응답 본문은 ErrorResponseRegistry 에 미리 직렬화된 바이트를 그대로 사용
+ */
+@Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    // 429/503 응답 시 재시도까지 기다릴 시간 (초)
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final ErrorResponseRegistry errorResponseRegistry;
+
     @ExceptionHandler(HiringException.class)
-    public ResponseEntity<ErrorResponse> handlerBusinessException(HiringException e) {
-        return ResponseEntity
-                .status(e.getErrorCode().getStatus())
-                .body(new ErrorResponse(e.getErrorCode()));
+    public ResponseEntity<byte[]> handlerBusinessException(HiringException e) {
+        HttpStatus status = e.getErrorCode().getStatus();
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+
+        // 과부하로 거부한 요청은 클라이언트가 바로 재시도하지 않도록 Retry-After 전달
+        if (status == HttpStatus.TOO_MANY_REQUESTS || status == HttpStatus.SERVICE_UNAVAILABLE) {
+            response.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        }
+        return body(response, e.getErrorCode());
+    }
+
+    /**
+     * DB 커넥션 풀에서 connection-timeout 안에 커넥션을 얻지 못한 경우
+     * 동시 요청이 풀 크기를 넘어선 상황이므로 500 대신 503으로 응답하여 클라이언트 재시도 유도
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<byte[]> handlerConnectionUnavailable(Exception e) {
+        log.warn("DB 커넥션 획득 실패: {}", e.getMessage());
+        ErrorCode errorCode = ErrorCode.DB_CONNECTION_UNAVAILABLE;
+        return body(ResponseEntity.status(errorCode.getStatus()), errorCode);
+    }
+
+    /**
+     * 버전 비교 UPDATE 가 실패한 경우 (조회 이후 다른 요청이 먼저 수정)
+     * 클라이언트가 다시 조회해서 최신 버전으로 수정하도록 412로 응답
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<byte[]> handlerOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        log.debug("게시판 동시 수정 충돌: {}", e.getMessage());
+        ErrorCode errorCode = ErrorCode.BOARD_VERSION_MISMATCH;
+        return body(ResponseEntity.status(errorCode.getStatus()), errorCode);
+    }
+
+    private ResponseEntity<byte[]> body(ResponseEntity.BodyBuilder response, ErrorCode errorCode) {
+        return response
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponseRegistry.get(errorCode));
     }
 
 }
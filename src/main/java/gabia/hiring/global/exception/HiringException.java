@@ -2,13 +2,18 @@ package gabia.hiring.global.exception;
 
 import lombok.Getter;
 
+/**
+ * 비즈니스 예외 (ErrorCode 로 응답 상태/본문이 정해짐)
+ * 예상된 실패(권한 없음, 중복, 과부하 거부 등)에만 사용하므로 스택 트레이스를 만들지 않음
+ * (요청 폭주 시 예외 생성 비용이 스택 깊이에 비례해 커지는 것을 방지)
+ */
 @Getter
 public class HiringException extends RuntimeException {
 
     private final ErrorCode errorCode;
 
     public HiringException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, false);
         this.errorCode = errorCode;
     }
 }
@@ -0,0 +1,43 @@
+package gabia.hiring.global.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * 비동기 로그 큐 메트릭
+ * - logging.async.events{appender, result=appended|discarded|dropped}
+ * - logging.async.queue.remaining{appender}
+ *
+ * CountingAsyncAppender 를 사용하는 프로필(prod)에서만 값이 생성됨
+ */
+@Component
+public class AsyncLogMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CountingAsyncAppender.appenders().forEach((name, appender) -> {
+            registerCounter(registry, name, "appended", appender, CountingAsyncAppender::getAppendedCount);
+            registerCounter(registry, name, "discarded", appender, CountingAsyncAppender::getDiscardedCount);
+            registerCounter(registry, name, "dropped", appender, CountingAsyncAppender::getDroppedCount);
+
+            Gauge.builder("logging.async.queue.remaining", appender, CountingAsyncAppender::getRemainingCapacity)
+                    .description("비동기 로그 큐의 남은 용량")
+                    .tag("appender", name)
+                    .register(registry);
+        });
+    }
+
+    private void registerCounter(MeterRegistry registry, String name, String result, CountingAsyncAppender appender,
+                                 ToLongFunction<CountingAsyncAppender> count) {
+        FunctionCounter.builder("logging.async.events", appender, count::applyAsLong)
+                .description("비동기 로그 이벤트 처리 결과")
+                .tag("appender", name)
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,72 @@
+package gabia.hiring.global.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버려진 로그 이벤트 수를 세는 AsyncAppender (logback-spring.xml prod 프로필에서 사용)
+ *
+ * - 큐(ArrayBlockingQueue)는 queueSize 로 크기가 고정된 버퍼
+ * - neverBlock=true 이면 큐가 가득 찼을 때 요청 스레드가 대기하지 않고 이벤트를 버림 (dropped)
+ * - 남은 용량이 discardingThreshold 보다 작으면 INFO 이하 이벤트를 먼저 버림 (discarded)
+ *
+ * 버린 수는 AsyncLogMetrics 가 logging.async.events 메트릭으로 노출
+ * 큐 상태를 이벤트 추가 직전에 확인하므로 동시에 추가되는 경우 약간의 오차가 있을 수 있음
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private static final Map<String, CountingAsyncAppender> APPENDERS = new ConcurrentHashMap<>();
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    public void start() {
+        super.start();
+        if (isStarted()) {
+            APPENDERS.put(getName(), this);
+        }
+    }
+
+    @Override
+    public void stop() {
+        APPENDERS.remove(getName(), this);
+        super.stop();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remainingCapacity = getRemainingCapacity();
+
+        if (remainingCapacity < getDiscardingThreshold() && isDiscardable(event)) {
+            discarded.increment();
+        } else if (remainingCapacity == 0 && isNeverBlock()) {
+            dropped.increment();
+        } else {
+            appended.increment();
+        }
+
+        super.append(event);
+    }
+
+    public static Map<String, CountingAsyncAppender> appenders() {
+        return APPENDERS;
+    }
+
+    public long getAppendedCount() {
+        return appended.sum();
+    }
+
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
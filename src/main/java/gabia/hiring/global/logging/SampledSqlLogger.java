@@ -0,0 +1,35 @@
+package gabia.hiring.global.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실행되는 SQL 중 일부만 샘플링해서 기록 (spring.jpa.show-sql 대체)
+ * 전체 SQL 출력은 요청 스레드에서 stdout 에 동기로 기록되므로 운영에서는 사용하지 않음
+ *
+ * - sampleRate 1.0: 모든 SQL 기록 (로컬 개발)
+ * - sampleRate 0.0: 기록하지 않음 (느린 쿼리는 QueryMetricsListener 가 별도 기록)
+ */
+@Slf4j(topic = "gabia.hiring.sql")
+public class SampledSqlLogger implements StatementInspector {
+
+    private final double sampleRate;
+
+    public SampledSqlLogger(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && log.isInfoEnabled()) {
+            log.atInfo()
+                    .setMessage("SQL")
+                    .addKeyValue("sql", sql)
+                    .addKeyValue("sampleRate", sampleRate)
+                    .log();
+        }
+        return sql;
+    }
+}
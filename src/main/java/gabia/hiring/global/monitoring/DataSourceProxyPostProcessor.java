@@ -0,0 +1,42 @@
+package gabia.hiring.global.monitoring;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource 를 datasource-proxy 로 감싸서 SQL 실행 통계를 수집
+ * ResultSet 도 프록시로 감싸서 조회 행 수를 셈
+ *
+ * 리스너는 MeterRegistry 에 의존하므로 DataSource 생성 시점에 지연 조회
+ */
+@Component
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    private final ObjectProvider<QueryMetricsListener> queryMetricsListener;
+
+    public DataSourceProxyPostProcessor(ObjectProvider<QueryMetricsListener> queryMetricsListener) {
+        this.queryMetricsListener = queryMetricsListener;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // 애플리케이션이 사용하는 DataSource 하나만 감쌈 (중복 집계 방지)
+        if (!(bean instanceof DataSource dataSource) || !DATA_SOURCE_BEAN_NAME.equals(beanName)) {
+            return bean;
+        }
+
+        QueryMetricsListener listener = queryMetricsListener.getObject();
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(listener)
+                .methodListener(listener)
+                .proxyResultSet()
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package gabia.hiring.global.monitoring;
+
+/**
+ * 현재 스레드에서 실행 중인 SQL 의 출처 (HTTP 엔드포인트, 레포지토리 메서드)
+ * QueryMetricsListener 가 SQL 실행 시점에 읽어서 메트릭 태그로 사용
+ */
+public final class QueryContext {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> ENDPOINT = new ThreadLocal<>();
+    private static final ThreadLocal<String> REPOSITORY_METHOD = new ThreadLocal<>();
+
+    private QueryContext() {
+    }
+
+    public static String endpoint() {
+        String endpoint = ENDPOINT.get();
+        return endpoint != null ? endpoint : NONE;
+    }
+
+    public static void setEndpoint(String endpoint) {
+        ENDPOINT.set(endpoint);
+    }
+
+    public static void clearEndpoint() {
+        ENDPOINT.remove();
+    }
+
+    public static String repositoryMethod() {
+        String repositoryMethod = REPOSITORY_METHOD.get();
+        return repositoryMethod != null ? repositoryMethod : NONE;
+    }
+
+    /**
+     * 레포지토리 메서드 진입 시 설정
+     *
+     * @return 이전 값 (레포지토리 호출이 중첩된 경우 복원용)
+     */
+    public static String enterRepositoryMethod(String repositoryMethod) {
+        String previous = REPOSITORY_METHOD.get();
+        REPOSITORY_METHOD.set(repositoryMethod);
+        return previous;
+    }
+
+    public static void exitRepositoryMethod(String previous) {
+        if (previous == null) {
+            REPOSITORY_METHOD.remove();
+        } else {
+            REPOSITORY_METHOD.set(previous);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package gabia.hiring.global.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청의 엔드포인트(HTTP 메서드 + URL 패턴)를 QueryContext 에 기록
+ * URL 패턴(/api/board/{boardId})을 사용하므로 메트릭 태그 수가 엔드포인트 수로 제한됨
+ *
+ * CompletableFuture 를 반환하는 컨트롤러(로그인/회원가입)는 첫 디스패치에서 afterCompletion 이 호출되지 않으므로
+ * 비동기 처리가 시작될 때도 Tomcat 스레드의 엔드포인트를 지움 (이후 다른 요청의 쿼리에 잘못된 태그가 붙지 않도록)
+ */
+@Component
+public class QueryContextInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            QueryContext.setEndpoint(request.getMethod() + " " + pattern);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryContext.clearEndpoint();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryContext.clearEndpoint();
+    }
+}
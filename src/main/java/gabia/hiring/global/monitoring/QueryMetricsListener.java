@@ -0,0 +1,162 @@
+package gabia.hiring.global.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC 실행 통계 수집 (datasource-proxy 리스너)
+ *
+ * 태그: repository(레포지토리.메서드), endpoint(HTTP 메서드 + URL 패턴)
+ * - db.query          : SQL 실행 시간 히스토그램
+ * - db.query.rows     : 조회한 행 수 (db.query 횟수로 나누면 쿼리당 평균 행 수)
+ * - db.query.slow     : 임계값 이상 걸린 SQL 수
+ *
+ * 임계값(monitoring.sql.slow-query-threshold-ms) 이상 걸린 SQL 은 바인드 파라미터의 값 대신
+ * 형태(타입, 개수)만 함께 기록 (개인정보가 로그에 남지 않도록)
+ */
+@Slf4j
+@Component
+public class QueryMetricsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdMillis;
+
+    // repository → endpoint → 미터 (조회 시 객체 생성 없이 재사용)
+    private final Map<String, Map<String, QueryMeters>> meters = new ConcurrentHashMap<>();
+
+    public QueryMetricsListener(MeterRegistry meterRegistry,
+                                @Value("${monitoring.sql.slow-query-threshold-ms:200}") long slowQueryThresholdMillis) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String repository = QueryContext.repositoryMethod();
+        String endpoint = QueryContext.endpoint();
+        QueryMeters queryMeters = metersFor(repository, endpoint);
+
+        long elapsedMillis = execInfo.getElapsedTime();
+        queryMeters.latency.record(elapsedMillis, TimeUnit.MILLISECONDS);
+
+        if (elapsedMillis >= slowQueryThresholdMillis) {
+            queryMeters.slow.increment();
+            log.atWarn()
+                    .setMessage("느린 쿼리")
+                    .addKeyValue("elapsedMs", elapsedMillis)
+                    .addKeyValue("repository", repository)
+                    .addKeyValue("endpoint", endpoint)
+                    .addKeyValue("batchSize", execInfo.getBatchSize())
+                    .addKeyValue("sql", queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")))
+                    .addKeyValue("params", parameterShape(queryInfoList))
+                    .log();
+        }
+    }
+
+    /**
+     * ResultSet.next() 가 true 를 반환할 때마다 조회 행 수 증가
+     */
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            metersFor(QueryContext.repositoryMethod(), QueryContext.endpoint()).rows.increment();
+        }
+    }
+
+    private QueryMeters metersFor(String repository, String endpoint) {
+        Map<String, QueryMeters> byEndpoint = meters.get(repository);
+        if (byEndpoint == null) {
+            byEndpoint = meters.computeIfAbsent(repository, key -> new ConcurrentHashMap<>());
+        }
+
+        QueryMeters queryMeters = byEndpoint.get(endpoint);
+        if (queryMeters == null) {
+            queryMeters = byEndpoint.computeIfAbsent(endpoint, key -> new QueryMeters(meterRegistry, repository, key));
+        }
+        return queryMeters;
+    }
+
+    /**
+     * 바인드 파라미터 형태 (예: [String, Long] x 3)
+     */
+    private static String parameterShape(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+                .map(queryInfo -> {
+                    List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+                    if (parametersList.isEmpty()) {
+                        return "[]";
+                    }
+                    String shape = parametersList.get(0).stream()
+                            .map(QueryMetricsListener::parameterType)
+                            .collect(Collectors.joining(", ", "[", "]"));
+                    return parametersList.size() > 1 ? shape + " x " + parametersList.size() : shape;
+                })
+                .collect(Collectors.joining("; "));
+    }
+
+    private static String parameterType(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        // args[0]: 파라미터 위치, args[1]: 값 (setNull 은 SQL 타입)
+        if (args == null || args.length < 2 || args[1] == null || "setNull".equals(operation.getMethod().getName())) {
+            return "null";
+        }
+        Object value = args[1];
+        if (value instanceof String string) {
+            return "String(" + string.length() + ")";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private static class QueryMeters {
+
+        private final Timer latency;
+        private final Counter rows;
+        private final Counter slow;
+
+        QueryMeters(MeterRegistry registry, String repository, String endpoint) {
+            this.latency = Timer.builder("db.query")
+                    .description("SQL 실행 시간")
+                    .tag("repository", repository)
+                    .tag("endpoint", endpoint)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.rows = Counter.builder("db.query.rows")
+                    .description("조회한 행 수")
+                    .tag("repository", repository)
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+            this.slow = Counter.builder("db.query.slow")
+                    .description("임계값 이상 걸린 SQL 수")
+                    .tag("repository", repository)
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+        }
+    }
+}
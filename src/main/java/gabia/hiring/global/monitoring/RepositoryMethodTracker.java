@@ -0,0 +1,53 @@
+package gabia.hiring.global.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spring Data 레포지토리 호출 시 QueryContext 에 "레포지토리.메서드" 를 기록
+ * (예: BoardRepository.findByTitleContaining)
+ *
+ * 레포지토리 프록시 생성 전에 RepositoryFactoryCustomizer 로 인터셉터를 추가하므로 AOP 설정이 필요 없음
+ */
+@Component
+public class RepositoryMethodTracker implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> {
+                        String repositoryName = repositoryInformation.getRepositoryInterface().getSimpleName();
+                        proxyFactory.addAdvice(trackingInterceptor(repositoryName));
+                    }));
+        }
+        return bean;
+    }
+
+    private static MethodInterceptor trackingInterceptor(String repositoryName) {
+        // 메서드별 태그 문자열은 한 번만 생성
+        Map<Method, String> methodNames = new ConcurrentHashMap<>();
+
+        return invocation -> {
+            Method method = invocation.getMethod();
+            String methodName = methodNames.get(method);
+            if (methodName == null) {
+                methodName = repositoryName + "." + method.getName();
+                methodNames.put(method, methodName);
+            }
+
+            String previous = QueryContext.enterRepositoryMethod(methodName);
+            try {
+                return invocation.proceed();
+            } finally {
+                QueryContext.exitRepositoryMethod(previous);
+            }
+        };
+    }
+}
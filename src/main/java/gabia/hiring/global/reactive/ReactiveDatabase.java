@@ -0,0 +1,50 @@
+package gabia.hiring.global.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolingConnectionFactoryProvider;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.Getter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회 전용 API에서 사용하는 R2DBC 커넥션 풀
+ *
+ * ConnectionFactory 를 빈으로 등록하면 Spring Boot가 JDBC DataSource 자동 설정을 건너뛰어
+ * 기존 JPA(쓰기 경로)가 동작하지 않으므로, 풀은 이 클래스 안에서만 보관하고 DatabaseClient 만 노출
+ */
+@Component
+@ConditionalOnProperty(name = "reactive.read.enabled", havingValue = "true")
+public class ReactiveDatabase implements DisposableBean {
+
+    private final ConnectionFactory connectionFactory;
+
+    @Getter
+    private final DatabaseClient databaseClient;
+
+    public ReactiveDatabase(@Value("${reactive.read.r2dbc.url}") String url,
+                            @Value("${spring.datasource.username}") String username,
+                            @Value("${spring.datasource.password}") String password,
+                            @Value("${reactive.read.r2dbc.max-size:20}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .option(PoolingConnectionFactoryProvider.MAX_SIZE, maxSize)
+                .build();
+
+        this.connectionFactory = ConnectionFactories.get(options);
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof ConnectionPool connectionPool) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package gabia.hiring.global.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.List;
+
+/**
+ * 조회 전용 API 서버 (Reactor Netty)
+ *
+ * 애플리케이션은 서블릿(Tomcat) 기반이라 WebFlux 라우터를 같은 포트에서 서빙할 수 없으므로
+ * 별도 포트(reactive.read.port)에서 소수의 이벤트 루프 스레드로 조회 요청을 처리
+ * 쓰기 요청은 기존 Tomcat + JPA 경로로 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reactive.read.enabled", havingValue = "true")
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private final RouterFunction<ServerResponse> routes;
+    private final HandlerStrategies handlerStrategies;
+    private final int port;
+    private DisposableServer server;
+
+    public ReactiveReadServer(List<RouterFunction<ServerResponse>> routes,
+                              ObjectMapper objectMapper,
+                              @Value("${reactive.read.port:9091}") int port) {
+        this.routes = routes.stream().reduce(RouterFunction::and).orElseThrow();
+        // 서블릿 API와 같은 JSON 형식(날짜 포맷 등)을 사용하도록 애플리케이션 ObjectMapper 공유
+        this.handlerStrategies = HandlerStrategies.builder()
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper, MediaType.APPLICATION_JSON));
+                    configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper, MediaType.APPLICATION_JSON));
+                })
+                .build();
+        this.port = port;
+    }
+
+    @Override
+    public synchronized void start() {
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(routes, handlerStrategies);
+
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+
+        log.info("조회 전용 API 서버 시작 - 포트: {}", server.port());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+}
@@ -2,8 +2,10 @@ package gabia.hiring.global.security.config;
 
 import gabia.hiring.global.security.jwt.JwtAuthenticationEntryPoint;
 import gabia.hiring.global.security.jwt.JwtFilter;
+import gabia.hiring.global.security.ratelimit.RateLimitFilter;
 import gabia.hiring.global.security.service.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,10 +15,13 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity  // 웹 보안(Spring Security) 활성화
 @RequiredArgsConstructor
@@ -25,17 +30,25 @@ public class SecurityConfig {
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final RateLimitFilter rateLimitFilter;
 
     /**
      * 비밀번호 해시화(공개키 암호화방식)
      * 비밀번호 암호화를 위한 PasswordEncoder 빈 등록
      * BCrypt 해시 함수를 사용하여 비밀번호를 안전하게 저장
      *
-     * @return BCryptPasswordEncoder 인스턴스
+     * 새 해시는 "{bcrypt}" 접두사와 security.password.bcrypt-strength 비용으로 저장
+     * 접두사 없는 기존 해시(기본 비용 BCrypt)도 검증 가능하고, upgradeEncoding() 이 true 를 반환하므로
+     * 로그인 성공 시 새 비용으로 재해시됨
+     *
+     * @return DelegatingPasswordEncoder 인스턴스
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:12}") int bcryptStrength) {
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                "bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength)));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
     }
 
     /**
@@ -54,11 +67,21 @@ public class SecurityConfig {
      * Spring Security 필터 체인 설정
      * 보안 정책, 인증/인가 규칙, JWT 필터 등록을 구성
      *
+     * 액추에이터는 관리 포트(management.server.port)에서만 제공되며 관리 포트 요청은 인증 없이 허용
+     * (서비스 포트에는 액추에이터 엔드포인트가 없음, 관리 포트는 네트워크에서 스크랩 서버만 접근하도록 제한)
+     *
      * @param http HttpSecurity 객체
+     * @param managementPort 관리 포트 (설정이 없으면 -1 - 어떤 요청의 포트와도 일치하지 않음)
+     * @param serverPort 서비스 포트
      * @return SecurityFilterChain 인스턴스
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${management.server.port:-1}") int managementPort,
+                                           @Value("${server.port:8080}") int serverPort) throws Exception {
+        // 관리 포트가 없거나 서비스 포트와 같으면 포트로 허용하지 않음 (서비스 포트의 모든 요청이 허용되지 않도록)
+        boolean separateManagementPort = managementPort > 0 && managementPort != serverPort;
+
         http
                 // 1. CSRF 비활성화 (JWT 사용으로 불필요)
                 .csrf(AbstractHttpConfigurer::disable)
@@ -81,13 +104,19 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         // 기타 정적 리소스들
                         .requestMatchers("/favicon.ico", "/error").permitAll()
+                        // 관리 포트의 헬스 체크, 메트릭 스크랩
+                        .requestMatchers(request -> separateManagementPort
+                                && request.getLocalPort() == managementPort).permitAll()
 
                         // 나머지 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
                 // 5. JWT 인증 필터를 UsernamePasswordAuthenticationFilter 이전에 추가
                 // 요청이 들어오면 JWT 필터가 먼저 토큰을 검증하고 인증 정보를 설정
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 6. 요청 속도 제한 필터를 JWT 필터 다음에 추가
+                // 인증된 요청은 이메일 + 권한별 한도, 익명 요청은 IP 기준 한도로 제한 (초과 시 429)
+                .addFilterAfter(rateLimitFilter, JwtFilter.class);
 
         return http.build();
     }
@@ -1,5 +1,6 @@
 package gabia.hiring.global.security.dto;
 
+import gabia.hiring.domain.user.entity.Role;
 import gabia.hiring.domain.user.entity.User;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
@@ -13,6 +14,13 @@ import java.util.Collections;
 public class CustomUserDetails implements UserDetails {
     private User user;
 
+    public Long getId() {
+        return user.getId();
+    }
+
+    public Role getRole() {
+        return user.getRole();
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
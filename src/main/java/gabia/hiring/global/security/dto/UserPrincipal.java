@@ -0,0 +1,88 @@
+package gabia.hiring.global.security.dto;
+
+import gabia.hiring.domain.board.entity.BoardType;
+import gabia.hiring.domain.board.policy.BoardAccessPolicy;
+import gabia.hiring.domain.board.policy.BoardAction;
+import gabia.hiring.domain.user.entity.Role;
+import gabia.hiring.domain.user.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증된 사용자의 불변 스냅샷
+ * JPA User 엔티티 대신 인증/인가에 필요한 값(id, 이메일, 권한)만 보관
+ * 비밀번호는 보관하지 않으므로 로그인 검증에는 사용할 수 없음
+ */
+@Getter
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final List<GrantedAuthority> authorities;
+
+    public UserPrincipal(Long id, String email, Role role) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    /**
+     * 게시판 권한 검사 (BoardAccessPolicy 권한 표)
+     */
+    public boolean can(BoardType boardType, BoardAction action) {
+        return BoardAccessPolicy.can(role, boardType, action);
+    }
+
+    /**
+     * 조회 가능한 게시판 종류 (공유 불변 목록이므로 쿼리 파라미터로 그대로 사용)
+     */
+    public List<BoardType> readableBoardTypes() {
+        return BoardAccessPolicy.readableTypes(role);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package gabia.hiring.global.security.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자의 권한(Role) 또는 비밀번호가 변경되었음을 알리는 이벤트
+ * 발행되면 해당 이메일의 인증 정보 캐시가 트랜잭션 커밋 후 제거됨
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserAuthorityChangedEvent {
+
+    private final String email;
+}
@@ -0,0 +1,104 @@
+package gabia.hiring.global.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인증 실패 집계 로그
+ * 잘못된 토큰이 대량으로 들어와도 요청마다 로그를 남기지 않고 사유별 건수만 세고,
+ * security.auth-failure-log.interval-ms 마다 한 줄로 요약해서 WARN 으로 기록 (실패가 없으면 기록하지 않음)
+ *
+ * - 토큰 검증 실패 사유: JwtOutcome (expired, malformed, wrong_type, revoked) - jwt.filter{outcome} 지표와 같은 분류
+ * - 인증 없이 보호된 API 호출: unauthenticated - security.unauthenticated 지표로도 노출
+ *   (토큰 검증 실패로 이미 집계된 요청은 401 응답 시 다시 세지 않음 - 요청 하나는 한 번만 집계)
+ * - 로그인 비밀번호 불일치/없는 이메일: login_failed - security.login.failed 지표로도 노출 (이메일은 기록하지 않음)
+ */
+@Slf4j
+@Component
+public class AuthFailureLog {
+
+    // 토큰 검증 실패를 이미 집계한 요청 표시 (JwtFilter → JwtAuthenticationEntryPoint)
+    public static final String TOKEN_REJECTED_ATTRIBUTE = AuthFailureLog.class.getName() + ".TOKEN_REJECTED";
+
+    private final Map<JwtOutcome, LongAdder> tokenFailures = new EnumMap<>(JwtOutcome.class);
+    private final LongAdder unauthenticated = new LongAdder();
+    private final Counter unauthenticatedCounter;
+    private final LongAdder loginFailures = new LongAdder();
+    private final Counter loginFailedCounter;
+
+    public AuthFailureLog(MeterRegistry meterRegistry) {
+        for (JwtOutcome outcome : JwtOutcome.values()) {
+            tokenFailures.put(outcome, new LongAdder());
+        }
+        this.unauthenticatedCounter = Counter.builder("security.unauthenticated")
+                .description("인증 없이 보호된 API 를 호출하여 401 로 거부된 요청 수")
+                .register(meterRegistry);
+        this.loginFailedCounter = Counter.builder("security.login.failed")
+                .description("비밀번호 불일치 또는 없는 이메일로 실패한 로그인 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 검증 실패 기록
+     */
+    public void tokenRejected(JwtOutcome outcome) {
+        tokenFailures.get(outcome).increment();
+    }
+
+    /**
+     * 401 응답 기록
+     */
+    public void unauthenticated() {
+        unauthenticated.increment();
+        unauthenticatedCounter.increment();
+    }
+
+    /**
+     * 로그인 실패 기록
+     */
+    public void loginFailed() {
+        loginFailures.increment();
+        loginFailedCounter.increment();
+    }
+
+    /**
+     * 주기마다 사유별 건수를 한 줄로 기록하고 초기화
+     */
+    @Scheduled(fixedDelayString = "${security.auth-failure-log.interval-ms:60000}")
+    public void flush() {
+        StringJoiner summary = new StringJoiner(", ");
+        long total = 0;
+
+        for (Map.Entry<JwtOutcome, LongAdder> entry : tokenFailures.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                summary.add(entry.getKey().tagValue() + "=" + count);
+                total += count;
+            }
+        }
+
+        long unauthenticatedCount = unauthenticated.sumThenReset();
+        if (unauthenticatedCount > 0) {
+            summary.add("unauthenticated=" + unauthenticatedCount);
+            total += unauthenticatedCount;
+        }
+
+        long loginFailedCount = loginFailures.sumThenReset();
+        if (loginFailedCount > 0) {
+            summary.add("login_failed=" + loginFailedCount);
+            total += loginFailedCount;
+        }
+
+        if (total > 0) {
+            log.warn("인증 실패 요약 - 총 {}건 ({})", total, summary);
+        }
+    }
+}
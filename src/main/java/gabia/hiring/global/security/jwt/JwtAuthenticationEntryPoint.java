@@ -1,17 +1,17 @@
 package gabia.hiring.global.security.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import gabia.hiring.global.exception.ErrorCode;
+import gabia.hiring.global.exception.ErrorResponseRegistry;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * JWT 인증 실패 시 처리하는 EntryPoint
@@ -20,11 +20,18 @@ import java.util.Map;
  * 1. JWT 토큰이 없는 경우
  * 2. JWT 토큰이 유효하지 않은 경우
  * 3. 인증이 필요한 리소스에 미인증 사용자가 접근한 경우
+ *
+ * 잘못된 토큰이 대량으로 들어오는 경우를 대비해 요청마다 로그/JSON 직렬화를 하지 않음
+ * (건수는 AuthFailureLog 에서 집계, 응답 본문은 ErrorResponseRegistry 의 미리 직렬화된 바이트)
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
+    private final ErrorResponseRegistry errorResponseRegistry;
+    private final AuthFailureLog authFailureLog;
+
     /**
      * 인증 실패 시 호출되는 메서드
      * 401 Unauthorized 응답을 JSON 형태로 반환
@@ -38,23 +45,12 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
                          HttpServletResponse response,
                          AuthenticationException authException) throws IOException, ServletException {
 
-        log.error("인증 실패 - URI: {}, 메시지: {}", request.getRequestURI(), authException.getMessage());
-
-        // 1. 응답 헤더 설정
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED); // 401 상태 코드
-
-        // 2. 에러 응답 JSON 생성
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("error", "Unauthorized");
-        errorResponse.put("message", "인증이 필요합니다. 토큰을 확인해주세요.");
-        errorResponse.put("status", 401);
-        errorResponse.put("path", request.getRequestURI());
+        //토큰 검증 실패는 JwtFilter 에서 사유별로 이미 집계됨
+        if (request.getAttribute(AuthFailureLog.TOKEN_REJECTED_ATTRIBUTE) == null) {
+            authFailureLog.unauthenticated();
+        }
+        log.debug("인증 실패 - URI: {}, 메시지: {}", request.getRequestURI(), authException.getMessage());
 
-        // 3. JSON 응답 전송
-        ObjectMapper objectMapper = new ObjectMapper();
-        String jsonResponse = objectMapper.writeValueAsString(errorResponse);
-        response.getWriter().write(jsonResponse);
+        errorResponseRegistry.write(response, ErrorCode.UNAUTHORIZED);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package gabia.hiring.global.security.jwt;
 
-import gabia.hiring.global.security.service.CustomUserDetailsService;
+import gabia.hiring.global.security.dto.UserPrincipal;
+import gabia.hiring.global.security.service.PrincipalCache;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +11,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -28,15 +29,20 @@ import java.io.IOException;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final PrincipalCache principalCache;
+    private final JwtFilterMetrics jwtFilterMetrics;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final AuthFailureLog authFailureLog;
 
 
 
     /**
      * 매 요청마다 실행되는 필터 메서드
      * 1. 요청 헤더에서 JWT 토큰 추출
-     * 2. 토큰 유효성 검증
-     * 3. 유효한 토큰이면 Spring Security Context에 인증 정보 설정
+     * 2. 토큰 유효성 검증 (서명 검증은 요청당 최대 한 번, 캐시 적중 시 생략)
+     * 3. 폐기된 토큰 패밀리인지 확인 (메모리 맵 조회 한 번)
+     * 4. 유효한 토큰이면 Spring Security Context에 인증 정보 설정
+     * 5. 검증 결과(valid, expired, malformed, wrong_type, revoked)와 소요 시간을 메트릭으로 기록
      *
      * @param request HTTP 요청
      * @param response HTTP 응답
@@ -48,41 +54,80 @@ public class JwtFilter extends OncePerRequestFilter {
         //요청 헤더에서 JWT 토큰 추출
         String jwt = getJwtFromRequest(request);
 
-        //토큰이 존재하고 유효한지 확인
-        if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+        if (StringUtils.hasText(jwt)) {
+            long startedAt = System.nanoTime();
+
+            //토큰을 한 번만 파싱하여 서명/만료 검증 (캐시 적중 시 생략)
+            JwtOutcome outcome;
+            VerifiedToken verifiedToken = null;
+            try {
+                verifiedToken = jwtTokenProvider.verify(jwt);
+                //Access Token인지 확인(Refresh Token은 API 호출에 사용 불가)
+                if (!verifiedToken.isAccessToken()) {
+                    outcome = JwtOutcome.WRONG_TYPE;
+                } else if (revokedTokenRegistry.isRevoked(verifiedToken.getFamilyId())) {
+                    //로그아웃 또는 Refresh Token 재사용으로 폐기된 패밀리
+                    outcome = JwtOutcome.REVOKED;
+                } else {
+                    outcome = JwtOutcome.VALID;
+                }
+            } catch (JwtException | IllegalArgumentException e) {
+                outcome = JwtOutcome.of(e);
+            }
 
-            //Access Token인지 확인(Refresh Token은 API 호출에 사용 불가)
-            if (jwtTokenProvider.isAccessToken(jwt)) {
+            if (outcome == JwtOutcome.VALID) {
+                authenticate(request, verifiedToken);
+            } else {
+                //요청마다 로그를 남기지 않고 사유별 건수만 집계 (주기적으로 요약 로그)
+                authFailureLog.tokenRejected(outcome);
+                //이후 401 응답에서 같은 요청을 unauthenticated 로 다시 세지 않도록 표시
+                request.setAttribute(AuthFailureLog.TOKEN_REJECTED_ATTRIBUTE, outcome);
+            }
 
-                //토큰에서 사용자명 추출
-                String loginId = jwtTokenProvider.getUsernameFromToken(jwt);
+            jwtFilterMetrics.record(outcome, System.nanoTime() - startedAt);
+        }
 
-                //사용자 정보 조회
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(loginId);
+        //다음 필터로 요청 전달(필터 체인 계속 진행)
+        filterChain.doFilter(request, response);
+    }
 
-                //인증 객체 생성 (비밀번호는 NULL로 설정 - 이미 토큰으로 인증됨)
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,           // 사용자 정보
-                                null,                 // 비밀번호 (토큰 인증이므로 null)
-                                userDetails.getAuthorities()  // 권한 정보
-                        );
+    /**
+     * 검증된 Access Token으로 Spring Security Context에 인증 정보 설정
+     * 이후 컨트롤러에서 @AuthenticationPrincipal로 사용자 정보 접근 가능
+     */
+    private void authenticate(HttpServletRequest request, VerifiedToken verifiedToken) {
+        //사용자 정보 조회 (stateless 모드면 토큰 클레임, 아니면 캐시 미스일 때만 DB 조회)
+        UserPrincipal userDetails = resolvePrincipal(verifiedToken);
 
-                //요청 세부정보 설정(IP, 세션 ID 등)
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        //인증 객체 생성 (비밀번호는 NULL로 설정 - 이미 토큰으로 인증됨)
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails,           // 사용자 정보
+                        null,                 // 비밀번호 (토큰 인증이므로 null)
+                        userDetails.getAuthorities()  // 권한 정보
+                );
 
-                //Spring Security Context에 인증 정보 설정
-                //이후 컨트롤러에서 @AuthenticationPrincipal로 사용자 정보 접근 가능
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+        //요청 세부정보 설정(IP, 세션 ID 등)
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                log.debug("사용자  '{}' 인증 완료", loginId);
-            }else {
-                log.warn("Access Token이 아닌 토큰으로 API 호출 시도");
-            }
-        }
+        SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        //다음 필터로 요청 전달(필터 체인 계속 진행)
-        filterChain.doFilter(request, response);
+        log.debug("사용자  '{}' 인증 완료", verifiedToken.getSubject());
+    }
+
+    /**
+     * 검증된 토큰으로 인증 정보 생성
+     * stateless 모드이고 토큰에 id/권한 클레임이 있으면 DB 조회 없이 바로 생성
+     * 클레임이 없는 토큰(모드 전환 전에 발급된 토큰 등)은 PrincipalCache로 조회
+     *
+     * @param verifiedToken 검증된 Access Token
+     * @return 인증 정보 스냅샷
+     */
+    private UserPrincipal resolvePrincipal(VerifiedToken verifiedToken) {
+        if (jwtTokenProvider.isStatelessClaimsEnabled() && verifiedToken.hasPrincipalClaims()) {
+            return new UserPrincipal(verifiedToken.getUserId(), verifiedToken.getSubject(), verifiedToken.getRole());
+        }
+        return principalCache.get(verifiedToken.getSubject());
     }
 
     /**
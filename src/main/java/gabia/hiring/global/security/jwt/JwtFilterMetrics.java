@@ -0,0 +1,40 @@
+package gabia.hiring.global.security.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 토큰 검증 시간/결과 메트릭 (jwt.filter{outcome})
+ *
+ * 결과별 Timer 를 시작 시 미리 등록해 두고, 요청마다 EnumMap 조회 + 나노초 기록만 수행
+ * (태그 생성, 레지스트리 조회, Timer.Sample 등 요청당 객체 생성 없음)
+ * 백분위수는 히스토그램 버킷으로 내보내고 스크랩 시점에 계산
+ */
+@Component
+public class JwtFilterMetrics {
+
+    private final Map<JwtOutcome, Timer> timers = new EnumMap<>(JwtOutcome.class);
+
+    public JwtFilterMetrics(MeterRegistry meterRegistry) {
+        for (JwtOutcome outcome : JwtOutcome.values()) {
+            timers.put(outcome, Timer.builder("jwt.filter")
+                    .description("JwtFilter 토큰 검증 시간")
+                    .tag("outcome", outcome.tagValue())
+                    .publishPercentileHistogram()
+                    // 캐시 적중 시 수 마이크로초, 서명 검증 + DB 조회 시 수 밀리초
+                    .minimumExpectedValue(Duration.ofNanos(1_000))
+                    .maximumExpectedValue(Duration.ofMillis(100))
+                    .register(meterRegistry));
+        }
+    }
+
+    public void record(JwtOutcome outcome, long elapsedNanos) {
+        timers.get(outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
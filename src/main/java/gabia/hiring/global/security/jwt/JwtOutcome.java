@@ -0,0 +1,35 @@
+package gabia.hiring.global.security.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+
+/**
+ * JwtFilter 의 토큰 검증 결과 (메트릭 태그로 사용)
+ */
+public enum JwtOutcome {
+
+    // 유효한 Access Token
+    VALID,
+
+    // 만료된 토큰
+    EXPIRED,
+
+    // 서명 불일치, 형식 오류, 지원하지 않는 토큰 등
+    MALFORMED,
+
+    // 유효하지만 Access Token 이 아닌 토큰 (Refresh Token)
+    WRONG_TYPE,
+
+    // 서명/만료는 유효하지만 폐기된 토큰 패밀리의 Access Token (로그아웃, Refresh Token 재사용 감지)
+    REVOKED;
+
+    /**
+     * 토큰 검증 중 발생한 예외를 결과로 변환
+     */
+    public static JwtOutcome of(RuntimeException e) {
+        return e instanceof ExpiredJwtException ? EXPIRED : MALFORMED;
+    }
+
+    public String tagValue() {
+        return name().toLowerCase();
+    }
+}
@@ -1,5 +1,8 @@
 package gabia.hiring.global.security.jwt;
 
+import gabia.hiring.domain.user.entity.Role;
+import gabia.hiring.global.security.dto.CustomUserDetails;
+import gabia.hiring.global.security.dto.UserPrincipal;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -9,7 +12,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성, 검증, 파싱을 담당하는 핵심 클래스
@@ -20,9 +25,21 @@ import java.util.Date;
 public class JwtTokenProvider {
 
 
+    // 토큰 패밀리 id 클레임 이름
+    private static final String FAMILY_CLAIM = "fam";
+
     // JWT 토큰 서명에 사용할 비밀키
     private final SecretKey secretKey;
 
+    // 서명 검증용 파서 (불변 객체이므로 모든 요청에서 공유)
+    private final JwtParser jwtParser;
+
+    // 검증이 끝난 토큰 캐시
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // Access Token에 사용자 id/권한 클레임을 담고, 필터가 DB 조회 없이 인증 객체를 만들지 여부
+    private final boolean statelessClaimsEnabled;
+
     // Access Token 만료 시간 (짧게 설정 - 보통 15분~1시간)
     private final long accessTokenValidityInMilliseconds;
 
@@ -31,8 +48,15 @@ public class JwtTokenProvider {
 
     public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
                             @Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInMilliseconds,
-                            @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInMilliseconds) {
+                            @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInMilliseconds,
+                            @Value("${jwt.stateless-claims.enabled:false}") boolean statelessClaimsEnabled,
+                            VerifiedTokenCache verifiedTokenCache) {
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(this.secretKey)
+                .build();
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.statelessClaimsEnabled = statelessClaimsEnabled;
         this.accessTokenValidityInMilliseconds = accessTokenValidityInMilliseconds * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInMilliseconds * 1000;
     }
@@ -47,16 +71,39 @@ public class JwtTokenProvider {
      * @return 생성된 Access Token
      */
     public String generateAccessToken(Authentication authentication) {
+        return generateAccessToken(authentication, null);
+    }
+
+    /**
+     * 토큰 패밀리에 속한 Access Token 생성
+     * 패밀리가 폐기되면(로그아웃, Refresh Token 재사용 감지) 만료 전이라도 JwtFilter 에서 거부됨
+     *
+     * @param authentication Spring Security의 인증 객체
+     * @param familyId 토큰 패밀리 id (null 이면 폐기할 수 없는 토큰)
+     * @return 생성된 Access Token
+     */
+    public String generateAccessToken(Authentication authentication, String familyId) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
 
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenValidityInMilliseconds);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(userDetails.getUsername())    // 사용자명
-                .claim("type", "access")       // 토큰 타입 명시
+                .claim("type", VerifiedToken.ACCESS_TOKEN_TYPE)       // 토큰 타입 명시
                 .setIssuedAt(now)                           // 발행 시간
-                .setExpiration(expiryDate)                  // 만료 시간 (짧음)
+                .setExpiration(expiryDate);                 // 만료 시간 (짧음)
+
+        if (familyId != null) {
+            builder.claim(FAMILY_CLAIM, familyId);
+        }
+
+        // stateless 모드: 사용자 id와 권한을 토큰에 담아 요청마다 DB 조회를 생략
+        if (statelessClaimsEnabled) {
+            addPrincipalClaims(builder, userDetails);
+        }
+
+        return builder
                 .signWith(secretKey)                        // 서명
                 .compact();
     }
@@ -64,11 +111,14 @@ public class JwtTokenProvider {
     /**
      * Refresh Token 생성
      * Access Token 재발급에 사용되는 토큰 (만료시간이 김)
+     * 토큰 id(jti)와 패밀리 id를 담아 RefreshTokenStore 에서 회전/재사용 여부를 확인
      *
      * @param authentication Spring Security의 인증 객체
+     * @param familyId 토큰 패밀리 id
+     * @param tokenId 토큰 id (패밀리 안에서 현재 유효한 토큰 식별)
      * @return 생성된 Refresh Token
      */
-    public String generateRefreshToken(Authentication authentication) {
+    public String generateRefreshToken(Authentication authentication, String familyId, String tokenId) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
 
         Date now = new Date();
@@ -76,13 +126,93 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setSubject(userDetails.getUsername())    // 사용자명
-                .claim("type", "refresh")       // 토큰 타입 명시
+                .claim("type", VerifiedToken.REFRESH_TOKEN_TYPE)       // 토큰 타입 명시
+                .claim(FAMILY_CLAIM, familyId)              // 토큰 패밀리
+                .setId(tokenId)                             // 토큰 id (jti)
                 .setIssuedAt(now)                           // 발행 시간
                 .setExpiration(expiryDate)                  // 만료 시간 (김)
                 .signWith(secretKey)                        // 서명
                 .compact();
     }
 
+    /**
+     * stateless 모드 여부 (Access Token 클레임만으로 인증 객체 생성)
+     */
+    public boolean isStatelessClaimsEnabled() {
+        return statelessClaimsEnabled;
+    }
+
+    public Duration getAccessTokenValidity() {
+        return Duration.ofMillis(accessTokenValidityInMilliseconds);
+    }
+
+    public Duration getRefreshTokenValidity() {
+        return Duration.ofMillis(refreshTokenValidityInMilliseconds);
+    }
+
+    /**
+     * JWT 토큰 서명 검증 및 파싱
+     * 한 번의 파싱으로 주체, 타입, 만료 시각을 모두 추출하고
+     * 검증에 성공한 토큰은 캐시에 저장하여 재요청 시 서명 검증을 생략
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보
+     * @throws JwtException 서명이 잘못되었거나 만료된 토큰인 경우
+     * @throws IllegalArgumentException 토큰이 비어있는 경우
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parseClaims(token);
+        if (claims.getExpiration() == null) {
+            throw new UnsupportedJwtException("만료 시간이 없는 토큰입니다.");
+        }
+
+        String role = claims.get("role", String.class);
+        VerifiedToken verifiedToken = new VerifiedToken(
+                claims.getSubject(),
+                claims.get("type", String.class),
+                claims.getExpiration().toInstant(),
+                claims.get("uid", Long.class),
+                role != null ? Role.valueOf(role) : null,
+                claims.getId(),
+                claims.get(FAMILY_CLAIM, String.class)
+        );
+
+        verifiedTokenCache.put(token, verifiedToken);
+        return verifiedToken;
+    }
+
+    /**
+     * JWT 토큰 검증 후 결과 반환
+     * 검증 실패 사유는 DEBUG 로그로만 남기고 빈 값을 반환
+     * (잘못된 토큰이 대량으로 들어와도 로그가 늘어나지 않도록, 건수는 AuthFailureLog 에서 집계)
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보 (무효하면 empty)
+     */
+    public Optional<VerifiedToken> resolveToken(String token) {
+        try {
+            return Optional.of(verify(token));
+
+        } catch (SecurityException | MalformedJwtException e) {
+            log.debug("잘못된 JWT 서명입니다.");
+        } catch (ExpiredJwtException e) {
+            log.debug("만료된 JWT 토큰입니다.");
+        } catch (UnsupportedJwtException e) {
+            log.debug("지원되지 않는 JWT 토큰입니다.");
+        } catch (IllegalArgumentException e) {
+            log.debug("JWT 토큰이 잘못되었습니다.");
+        } catch (JwtException e) {
+            log.debug("유효하지 않은 JWT 토큰입니다.");
+        }
+
+        return Optional.empty();
+    }
+
     /**
      * JWT 토큰에서 사용자명 추출
      * Access Token과 Refresh Token 모두에서 사용 가능
@@ -91,13 +221,7 @@ public class JwtTokenProvider {
      * @return 토큰에 포함된 사용자명
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return verify(token).getSubject();
     }
 
     /**
@@ -107,13 +231,7 @@ public class JwtTokenProvider {
      * @return 토큰 타입 ("access" 또는 "refresh")
      */
     public String getTokenType(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.get("type", String.class);
+        return verify(token).getType();
     }
 
     /**
@@ -124,25 +242,7 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 무효하면 false
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-
-            return true;
-
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("잘못된 JWT 서명입니다.");
-        } catch (ExpiredJwtException e) {
-            log.error("만료된 JWT 토큰입니다.");
-        } catch (UnsupportedJwtException e) {
-            log.error("지원되지 않는 JWT 토큰입니다.");
-        } catch (IllegalArgumentException e) {
-            log.error("JWT 토큰이 잘못되었습니다.");
-        }
-
-        return false;
+        return resolveToken(token).isPresent();
     }
 
     /**
@@ -153,7 +253,7 @@ public class JwtTokenProvider {
      */
     public boolean isAccessToken(String token) {
         try {
-            return "access".equals(getTokenType(token));
+            return verify(token).isAccessToken();
         } catch (Exception e) {
             return false;
         }
@@ -167,9 +267,30 @@ public class JwtTokenProvider {
      */
     public boolean isRefreshToken(String token) {
         try {
-            return "refresh".equals(getTokenType(token));
+            return verify(token).isRefreshToken();
         } catch (Exception e) {
             return false;
         }
     }
+
+    /**
+     * 공유 파서로 서명 검증 후 클레임 추출
+     */
+    private Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 사용자 id(uid)와 권한(role) 클레임 추가
+     * id와 권한을 알 수 없는 UserDetails 구현체면 클레임 없이 발급 (필터가 DB 조회로 대체)
+     */
+    private void addPrincipalClaims(JwtBuilder builder, UserDetails userDetails) {
+        if (userDetails instanceof UserPrincipal principal) {
+            builder.claim("uid", principal.getId())
+                    .claim("role", principal.getRole().name());
+        } else if (userDetails instanceof CustomUserDetails customUserDetails) {
+            builder.claim("uid", customUserDetails.getId())
+                    .claim("role", customUserDetails.getRole().name());
+        }
+    }
 }
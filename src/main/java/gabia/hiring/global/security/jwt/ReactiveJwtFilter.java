@@ -0,0 +1,118 @@
+package gabia.hiring.global.security.jwt;
+
+import gabia.hiring.domain.user.repository.ReactiveUserRepository;
+import gabia.hiring.global.exception.ErrorCode;
+import gabia.hiring.global.exception.ErrorResponseRegistry;
+import gabia.hiring.global.security.dto.UserPrincipal;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 조회 전용 API(WebFlux)의 JWT 인증 필터
+ * JwtFilter 와 같은 JwtTokenProvider 로 토큰을 검증하고, 인증 정보를 요청 속성에 저장
+ *
+ * 서명 검증은 CPU 작업이고 검증 결과는 VerifiedTokenCache 에 캐시되므로 이벤트 루프에서 바로 수행
+ * id/권한 클레임이 없는 토큰만 R2DBC로 사용자를 조회
+ * 거부 사유는 요청마다 로그를 남기지 않고 AuthFailureLog 에서 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive.read.enabled", havingValue = "true")
+public class ReactiveJwtFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    public static final String PRINCIPAL_ATTRIBUTE = UserPrincipal.class.getName();
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final AuthFailureLog authFailureLog;
+    private final ErrorResponseRegistry errorResponseRegistry;
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        String jwt = getJwtFromRequest(request);
+
+        if (!StringUtils.hasText(jwt)) {
+            authFailureLog.unauthenticated();
+            return unauthorized();
+        }
+
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtTokenProvider.verify(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            authFailureLog.tokenRejected(JwtOutcome.of(e));
+            return unauthorized();
+        }
+
+        //Access Token인지 확인(Refresh Token은 API 호출에 사용 불가)
+        if (!verifiedToken.isAccessToken()) {
+            authFailureLog.tokenRejected(JwtOutcome.WRONG_TYPE);
+            return unauthorized();
+        }
+
+        //로그아웃 또는 Refresh Token 재사용으로 폐기된 패밀리
+        if (revokedTokenRegistry.isRevoked(verifiedToken.getFamilyId())) {
+            authFailureLog.tokenRejected(JwtOutcome.REVOKED);
+            return unauthorized();
+        }
+
+        return resolvePrincipal(verifiedToken)
+                .flatMap(principal -> {
+                    request.attributes().put(PRINCIPAL_ATTRIBUTE, principal);
+                    return next.handle(request);
+                })
+                .switchIfEmpty(Mono.defer(this::unauthorized));
+    }
+
+    /**
+     * 요청 속성에 저장된 인증 정보 조회 (필터를 거친 요청에서만 사용)
+     */
+    public static UserPrincipal getPrincipal(ServerRequest request) {
+        return (UserPrincipal) request.attribute(PRINCIPAL_ATTRIBUTE)
+                .orElseThrow(() -> new IllegalStateException("인증되지 않은 요청입니다."));
+    }
+
+    /**
+     * 검증된 토큰으로 인증 정보 생성 (JwtFilter.resolvePrincipal 과 같은 규칙)
+     */
+    private Mono<UserPrincipal> resolvePrincipal(VerifiedToken verifiedToken) {
+        if (jwtTokenProvider.isStatelessClaimsEnabled() && verifiedToken.hasPrincipalClaims()) {
+            return Mono.just(new UserPrincipal(verifiedToken.getUserId(), verifiedToken.getSubject(), verifiedToken.getRole()));
+        }
+        return reactiveUserRepository.findPrincipalByEmail(verifiedToken.getSubject());
+    }
+
+    /**
+     * 미리 직렬화된 401 응답 (요청마다 ErrorResponse 직렬화 없음)
+     */
+    private Mono<ServerResponse> unauthorized() {
+        ErrorCode errorCode = ErrorCode.UNAUTHORIZED;
+        return ServerResponse.status(errorCode.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(errorResponseRegistry.get(errorCode));
+    }
+
+    private String getJwtFromRequest(ServerRequest request) {
+        String bearerToken = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,123 @@
+package gabia.hiring.global.security.jwt;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Refresh Token 패밀리 저장소 (메모리)
+ * 로그인 한 번에 패밀리 하나를 만들고, 회전할 때마다 패밀리의 현재 토큰 id(jti)를 교체
+ *
+ * - 회전: 현재 토큰 id 와 일치하는 Refresh Token 만 새 토큰으로 교체 (패밀리 단위로 원자적)
+ * - 재사용 감지: 이미 교체된(이전) 토큰이 제출되면 탈취로 보고 패밀리 전체를 제거
+ * - 정리: jwt.revocation.eviction-interval-ms 마다 만료된 패밀리 제거
+ *
+ * 서버 메모리에만 보관하므로 재시작하면 모든 Refresh Token 이 무효화되어 다시 로그인해야 함
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore implements MeterBinder {
+
+    public enum RotationResult {
+        // 현재 토큰이 제출되어 새 토큰으로 교체됨
+        ROTATED,
+        // 이미 교체된 토큰이 다시 제출됨 (패밀리 제거)
+        REUSED,
+        // 없거나 만료된 패밀리
+        UNKNOWN
+    }
+
+    private final ConcurrentHashMap<String, TokenFamily> families = new ConcurrentHashMap<>();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.refresh.families", families, ConcurrentHashMap::size)
+                .description("유효한 Refresh Token 패밀리 수")
+                .register(registry);
+    }
+
+    /**
+     * 새 패밀리 등록 (로그인 시)
+     */
+    public void register(String familyId, String email, String tokenId, Instant expiresAt) {
+        families.put(familyId, new TokenFamily(email, tokenId, expiresAt));
+    }
+
+    /**
+     * Refresh Token 회전
+     * 제출된 토큰 id 가 패밀리의 현재 토큰 id 와 같을 때만 다음 토큰 id 로 교체
+     *
+     * @param familyId 제출된 토큰의 패밀리 id
+     * @param presentedTokenId 제출된 토큰의 id
+     * @param nextTokenId 새로 발급할 토큰의 id
+     * @param nextExpiresAt 새로 발급할 토큰의 만료 시각
+     * @return 회전 결과 (REUSED 면 패밀리가 제거된 상태)
+     */
+    public RotationResult rotate(String familyId, String presentedTokenId, String nextTokenId, Instant nextExpiresAt) {
+        Instant now = Instant.now();
+        RotationResult[] result = {RotationResult.UNKNOWN};
+
+        families.computeIfPresent(familyId, (id, family) -> {
+            if (family.isExpired(now)) {
+                return null;
+            }
+            if (!family.getCurrentTokenId().equals(presentedTokenId)) {
+                result[0] = RotationResult.REUSED;
+                return null;
+            }
+            result[0] = RotationResult.ROTATED;
+            return new TokenFamily(family.getEmail(), nextTokenId, nextExpiresAt);
+        });
+
+        return result[0];
+    }
+
+    /**
+     * 패밀리 제거 (로그아웃)
+     *
+     * @return 제거된 패밀리 (없으면 null)
+     */
+    public TokenFamily remove(String familyId) {
+        return families.remove(familyId);
+    }
+
+    /**
+     * 만료된 패밀리 제거
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        Instant now = Instant.now();
+        int before = families.size();
+
+        families.values().removeIf(family -> family.isExpired(now));
+
+        int evicted = before - families.size();
+        if (evicted > 0) {
+            log.debug("만료된 Refresh Token 패밀리 정리 - 제거: {}, 남은 항목: {}", evicted, families.size());
+        }
+    }
+
+    /**
+     * 패밀리의 현재 상태 (불변, 회전 시 새 객체로 교체)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class TokenFamily {
+
+        private final String email;
+        private final String currentTokenId;
+        private final Instant expiresAt;
+
+        public boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
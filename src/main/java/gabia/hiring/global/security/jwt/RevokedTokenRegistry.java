@@ -0,0 +1,71 @@
+package gabia.hiring.global.security.jwt;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰 패밀리 목록 (메모리)
+ * 로그아웃하거나 Refresh Token 재사용이 감지된 패밀리의 Access Token 을 만료 전에 거부하기 위해 사용
+ *
+ * - 조회: JwtFilter 가 매 요청 ConcurrentHashMap.containsKey 한 번으로 확인 (잠금/객체 생성 없음)
+ * - 보관 기간: 폐기 시점에 이미 발급된 Access Token 이 모두 만료될 때까지만 보관
+ *   (Refresh Token 은 RefreshTokenStore 에서 패밀리가 제거되어 따로 거부됨)
+ * - 정리: jwt.revocation.eviction-interval-ms 마다 보관 기간이 지난 항목 제거
+ * - 지표: jwt.revoked.families (현재 보관 중인 패밀리 수)
+ */
+@Slf4j
+@Component
+public class RevokedTokenRegistry implements MeterBinder {
+
+    // 패밀리 id → 보관 만료 시각 (epoch millis)
+    private final ConcurrentHashMap<String, Long> revokedFamilies = new ConcurrentHashMap<>();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.revoked.families", revokedFamilies, ConcurrentHashMap::size)
+                .description("폐기되어 Access Token 이 거부되는 토큰 패밀리 수")
+                .register(registry);
+    }
+
+    /**
+     * 폐기된 패밀리의 토큰인지 확인 (요청마다 호출)
+     *
+     * @param familyId 토큰 패밀리 id (null 이면 폐기할 수 없는 토큰이므로 false)
+     */
+    public boolean isRevoked(String familyId) {
+        return familyId != null && revokedFamilies.containsKey(familyId);
+    }
+
+    /**
+     * 패밀리 폐기
+     *
+     * @param familyId 토큰 패밀리 id
+     * @param until 이 시각까지 보관 (이 패밀리로 발급된 Access Token 의 최대 만료 시각)
+     */
+    public void revoke(String familyId, Instant until) {
+        revokedFamilies.merge(familyId, until.toEpochMilli(), Math::max);
+    }
+
+    /**
+     * 보관 기간이 지난 항목 제거 (해당 패밀리의 Access Token 은 이미 모두 만료됨)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        int before = revokedFamilies.size();
+
+        revokedFamilies.values().removeIf(until -> until <= now);
+
+        int evicted = before - revokedFamilies.size();
+        if (evicted > 0) {
+            log.debug("폐기 토큰 패밀리 정리 - 제거: {}, 남은 항목: {}", evicted, revokedFamilies.size());
+        }
+    }
+}
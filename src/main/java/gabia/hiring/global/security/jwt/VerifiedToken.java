@@ -0,0 +1,66 @@
+package gabia.hiring.global.security.jwt;
+
+import gabia.hiring.domain.user.entity.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰의 불변 스냅샷
+ * 한 요청 안에서 토큰을 한 번만 파싱하고, 이후에는 이 객체의 값만 사용
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    // 토큰 주체 (이메일)
+    private final String subject;
+
+    // 토큰 타입 ("access" 또는 "refresh")
+    private final String type;
+
+    // 만료 시각
+    private final Instant expiresAt;
+
+    // 사용자 id 클레임 (stateless 모드로 발급된 Access Token에만 존재)
+    private final Long userId;
+
+    // 권한 클레임 (stateless 모드로 발급된 Access Token에만 존재)
+    private final Role role;
+
+    // 토큰 id (jti, Refresh Token 회전 시 현재 토큰인지 확인)
+    private final String tokenId;
+
+    // 토큰 패밀리 id (같은 로그인에서 회전으로 이어진 토큰들이 공유, 폐기 단위)
+    private final String familyId;
+
+    public boolean isAccessToken() {
+        return ACCESS_TOKEN_TYPE.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH_TOKEN_TYPE.equals(type);
+    }
+
+    /**
+     * DB 조회 없이 인증 객체를 만들 수 있는 클레임(id, 권한)을 가지고 있는지 확인
+     */
+    public boolean hasPrincipalClaims() {
+        return userId != null && role != null;
+    }
+
+    /**
+     * 회전/폐기 대상 토큰인지 확인 (패밀리 클레임 없이 발급된 토큰은 폐기할 수 없음)
+     */
+    public boolean hasFamily() {
+        return familyId != null;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
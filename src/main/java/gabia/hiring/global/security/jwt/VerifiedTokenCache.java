@@ -0,0 +1,103 @@
+package gabia.hiring.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 서명 검증이 끝난 토큰을 보관하는 캐시
+ * 같은 토큰으로 반복 호출하는 클라이언트는 HMAC 서명 검증과 JSON 파싱을 건너뜀
+ *
+ * - 키: 토큰 원문의 SHA-256 다이제스트 (토큰 원문은 메모리에 보관하지 않음)
+ * - 만료: 각 항목은 토큰의 exp 시각에 맞춰 제거됨
+ * - 크기: jwt.verified-cache.maximum-size 로 제한
+ * - 메트릭: cache.gets{cache=jwt-verified, result=hit|miss} (MeterBinder 로 자동 등록)
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt-verified");
+    }
+
+    /**
+     * 캐시에 있는 검증된 토큰 조회
+     *
+     * @param token JWT 토큰 원문
+     * @return 만료되지 않은 검증 결과 (없으면 null)
+     */
+    public VerifiedToken get(String token) {
+        VerifiedToken verifiedToken = cache.getIfPresent(digest(token));
+
+        if (verifiedToken == null || verifiedToken.isExpired(Instant.now())) {
+            return null;
+        }
+        return verifiedToken;
+    }
+
+    /**
+     * 서명 검증이 끝난 토큰 저장
+     */
+    public void put(String token, VerifiedToken verifiedToken) {
+        cache.put(digest(token), verifiedToken);
+    }
+
+    /**
+     * 토큰 원문을 캐시 키로 변환 (SHA-256 → Base64)
+     */
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256 을 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 항목별 만료 시간을 토큰의 남은 유효 시간으로 설정
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remaining = Duration.between(Instant.now(), value.getExpiresAt()).toNanos();
+            return Math.max(remaining, 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package gabia.hiring.global.security.password;
+
+import gabia.hiring.global.exception.ErrorCode;
+import gabia.hiring.global.exception.HiringException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 실행기
+ * BCrypt 는 의도적으로 느린 CPU 작업이므로 요청 스레드 대신 CPU 코어 수만큼의 고정 스레드에서 실행하고,
+ * 로그인이 몰려도 Tomcat 스레드(게시판 조회)가 해시 계산에 묶이지 않도록 함
+ *
+ * - 스레드: security.password-hash.threads (0 이면 CPU 코어 수), virtual 프로필에서도 플랫폼 스레드 사용
+ * - 대기열: security.password-hash.queue-capacity 로 제한, 가득 차면 즉시 429
+ * - 대기 시간: security.password-hash.max-queue-wait-ms 를 넘게 기다린 작업은 해시 없이 503
+ *   (클라이언트가 이미 포기했을 요청에 CPU 를 쓰지 않음)
+ * - 지표: password.hash{operation} (해시 시간), password.hash.queue.wait (대기 시간),
+ *   password.hash.rejected{reason}, executor.*{name=password-hash}
+ */
+@Slf4j
+@Component
+public class PasswordHashExecutor implements DisposableBean {
+
+    public enum Operation {
+        // 로그인 비밀번호 확인
+        VERIFY,
+        // 회원가입 비밀번호 해시
+        ENCODE,
+        // 로그인 후 기존 비용/형식 해시의 재해시 (로그인 응답과 별개로 실행)
+        REHASH;
+
+        public String tagValue() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final long maxQueueWaitNanos;
+
+    private final Map<Operation, Timer> hashTimers = new EnumMap<>(Operation.class);
+    private final Timer queueWaitTimer;
+    private final Counter queueFullCounter;
+    private final Counter queueTimeoutCounter;
+
+    public PasswordHashExecutor(MeterRegistry meterRegistry,
+                                @Value("${security.password-hash.threads:0}") int threads,
+                                @Value("${security.password-hash.queue-capacity:100}") int queueCapacity,
+                                @Value("${security.password-hash.max-queue-wait-ms:2000}") long maxQueueWaitMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueWaitMillis);
+
+        for (Operation operation : Operation.values()) {
+            hashTimers.put(operation, Timer.builder("password.hash")
+                    .description("비밀번호 해시 계산 시간")
+                    .tag("operation", operation.tagValue())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(5))
+                    .register(meterRegistry));
+        }
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait")
+                .description("비밀번호 해시 작업의 대기열 대기 시간")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(meterRegistry);
+        this.queueFullCounter = rejectedCounter(meterRegistry, "queue_full");
+        this.queueTimeoutCounter = rejectedCounter(meterRegistry, "queue_timeout");
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hash");
+
+        log.info("비밀번호 해시 실행기 생성 - 스레드: {}, 대기열: {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * 해시 작업 제출
+     *
+     * @param operation 작업 종류 (지표 태그)
+     * @param task 해시 계산 작업
+     * @return 작업 결과 (대기열이 가득 차면 TOO_MANY_REQUESTS, 대기 시간 초과/종료 중이면 AUTH_UNAVAILABLE 로 실패)
+     */
+    public <T> CompletableFuture<T> submit(Operation operation, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long enqueuedAt = System.nanoTime();
+
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                long waited = startedAt - enqueuedAt;
+                queueWaitTimer.record(waited, TimeUnit.NANOSECONDS);
+
+                if (waited > maxQueueWaitNanos) {
+                    queueTimeoutCounter.increment();
+                    future.completeExceptionally(new HiringException(ErrorCode.AUTH_UNAVAILABLE));
+                    return;
+                }
+
+                try {
+                    future.complete(task.get());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    hashTimers.get(operation).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (executor.isShutdown()) {
+                future.completeExceptionally(new HiringException(ErrorCode.AUTH_UNAVAILABLE));
+            } else {
+                queueFullCounter.increment();
+                future.completeExceptionally(new HiringException(ErrorCode.TOO_MANY_REQUESTS));
+            }
+        }
+
+        return future;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("password.hash.rejected")
+                .description("대기열이 가득 찼거나 너무 오래 기다려서 거부된 해시 작업 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,41 @@
+package gabia.hiring.global.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자/IP 하나의 토큰 버킷 (GCRA - Generic Cell Rate Algorithm)
+ * 남은 토큰 수 대신 "다음 요청이 이론적으로 도착해야 하는 시각(TAT)" 하나만 보관하며 토큰 버킷과 같은 결과를 냄
+ *
+ * - 상태가 long 하나이므로 CAS 한 번으로 갱신 (잠금 없음)
+ * - 허용 경로에서 객체를 만들지 않음
+ * - 한도 값은 버킷이 아닌 RateLimitPolicy 에 있으므로 설정/권한이 바뀌어도 버킷을 다시 만들 필요 없음
+ */
+public class RateLimitBucket extends AtomicLong {
+
+    public RateLimitBucket() {
+        // 첫 요청에서 max(TAT, now) 가 항상 now 가 되도록 최솟값으로 시작 (System.nanoTime 은 음수일 수 있음)
+        super(Long.MIN_VALUE);
+    }
+
+    /**
+     * 요청 하나 허용 시도
+     *
+     * @param policy 적용할 한도
+     * @param now System.nanoTime()
+     * @return 0 이면 허용, 양수면 거부되었고 다음 요청이 허용될 때까지 남은 시간(나노초)
+     */
+    public long tryAcquire(RateLimitPolicy policy, long now) {
+        while (true) {
+            long tat = get();
+            long newTat = Math.max(tat, now) + policy.getEmissionIntervalNanos();
+            long allowAt = newTat - policy.getBurstToleranceNanos();
+
+            if (allowAt > now) {
+                return allowAt - now;
+            }
+            if (compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package gabia.hiring.global.security.ratelimit;
+
+import gabia.hiring.global.exception.ErrorCode;
+import gabia.hiring.global.exception.ErrorResponseRegistry;
+import gabia.hiring.global.security.dto.UserPrincipal;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+
+/**
+ * 요청 속도 제한 필터
+ * JwtFilter 다음에 실행되어 인증된 요청은 이메일 + 권한 한도, 인증 정보가 없는 요청은 클라이언트 IP + 익명 한도로 제한
+ * 한도를 넘으면 컨트롤러를 실행하지 않고 429 + Retry-After(초) 로 응답
+ *
+ * 클라이언트 IP 는 request.getRemoteAddr() 기준
+ * (프록시 뒤에서는 server.forward-headers-strategy 로 X-Forwarded-For 를 반영해야 함)
+ *
+ * 경로 한도는 MVC 가 핸들러를 찾는 것과 같은 경로(디코딩, ';' 파라미터 제거, '//' 정리)로 비교
+ * (/api/board/%73earch 처럼 인코딩한 경로로 같은 핸들러를 호출해 경로 한도를 우회하지 못하도록)
+ * 조회 전용 API(reactive.read.port)는 ReactiveRateLimitFilter 에서 같은 RateLimiter 로 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ErrorResponseRegistry errorResponseRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        String path = lookupPath(request);
+        for (String excludedPath : properties.getExcludedPaths()) {
+            if (path.startsWith(excludedPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String path = lookupPath(request);
+
+        long waitNanos;
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            waitNanos = rateLimiter.tryAcquire(principal.getEmail(), principal.getRole(), path);
+        } else {
+            waitNanos = rateLimiter.tryAcquire(request.getRemoteAddr(), null, path);
+        }
+
+        if (waitNanos != RateLimiter.ALLOWED) {
+            reject(request, response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 429 응답 (Retry-After 는 다음 요청이 허용될 때까지 남은 시간을 초 단위로 올림)
+     */
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = RateLimiter.retryAfterSeconds(waitNanos);
+
+        log.debug("요청 속도 제한 - URI: {}, Retry-After: {}s", request.getRequestURI(), retryAfterSeconds);
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        errorResponseRegistry.write(response, ErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    /**
+     * 컨텍스트 경로를 제외하고 디코딩한 요청 경로
+     */
+    private static String lookupPath(HttpServletRequest request) {
+        return UrlPathHelper.defaultInstance.getLookupPathForRequest(request);
+    }
+}
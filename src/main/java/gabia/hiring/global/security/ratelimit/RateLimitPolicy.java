@@ -0,0 +1,32 @@
+package gabia.hiring.global.security.ratelimit;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 속도 제한 한도 (불변)
+ * GCRA 계산에 쓰는 값을 나노초로 미리 계산해 두어 요청마다 나눗셈/변환이 없음
+ */
+@Getter
+public class RateLimitPolicy {
+
+    // 요청 하나가 차지하는 시간 (1초 / 초당 허용 요청 수)
+    private final long emissionIntervalNanos;
+
+    // 몰아서 허용할 수 있는 시간 (burst 개의 요청이 차지하는 시간)
+    private final long burstToleranceNanos;
+
+    private RateLimitPolicy(long emissionIntervalNanos, long burstToleranceNanos) {
+        this.emissionIntervalNanos = emissionIntervalNanos;
+        this.burstToleranceNanos = burstToleranceNanos;
+    }
+
+    public static RateLimitPolicy of(RateLimitProperties.Limit limit) {
+        if (limit.getRequestsPerSecond() <= 0 || limit.getBurst() < 1) {
+            throw new IllegalArgumentException("requests-per-second 는 0보다 크고 burst 는 1 이상이어야 합니다.");
+        }
+        long emissionInterval = (long) (TimeUnit.SECONDS.toNanos(1) / limit.getRequestsPerSecond());
+        return new RateLimitPolicy(emissionInterval, emissionInterval * limit.getBurst());
+    }
+}
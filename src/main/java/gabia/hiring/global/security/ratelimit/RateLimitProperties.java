@@ -0,0 +1,63 @@
+package gabia.hiring.global.security.ratelimit;
+
+import gabia.hiring.domain.user.entity.Role;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 속도 제한 설정 (rate-limit.*)
+ *
+ * - roles.<ROLE>: 인증된 사용자(이메일 기준) 전체 요청 한도, 설정이 없는 권한은 제한 없음
+ * - anonymous: 인증 정보가 없는 요청(클라이언트 IP 기준) 전체 요청 한도
+ * - endpoints[n]: 특정 경로의 사용자/IP별 추가 한도 (권한 한도와 함께 적용)
+ *   path 가 "/**" 로 끝나면 접두사, 아니면 정확히 일치하는 경로에만 적용
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 사용자/IP 별 버킷 최대 개수 (초과 시 오래 사용하지 않은 버킷부터 제거)
+    private long maximumKeys = 1_000_000;
+
+    // 마지막 요청 이후 이 시간이 지난 버킷 제거 (버킷이 다시 가득 차는 시간보다 길게 설정)
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // 속도 제한을 적용하지 않는 경로 접두사
+    private List<String> excludedPaths = new ArrayList<>(List.of("/actuator/"));
+
+    private Limit anonymous = new Limit();
+
+    private Map<Role, Limit> roles = new EnumMap<>(Role.class);
+
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        // 초당 허용 요청 수 (평균)
+        private double requestsPerSecond = 10;
+
+        // 한 번에 몰아서 허용하는 요청 수
+        private int burst = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Endpoint extends Limit {
+
+        private String path;
+    }
+}
@@ -0,0 +1,175 @@
+package gabia.hiring.global.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gabia.hiring.domain.user.entity.Role;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자/IP 별 요청 속도 제한
+ *
+ * 버킷은 한도 종류(권한 전체, 익명 전체, 경로별)마다 별도의 Caffeine 캐시에 키(이메일 또는 IP)로 보관하므로
+ * 복합 키를 만들지 않고, 한도 안의 요청은 캐시 조회 + CAS 만으로 처리됨 (객체 생성 없음)
+ *
+ * - 메모리: 캐시마다 rate-limit.maximum-keys 로 제한, rate-limit.idle-timeout 동안 요청이 없는 버킷은 제거
+ *   (제거된 키는 다음 요청에서 가득 찬 버킷으로 다시 시작 - idle-timeout 이 충전 시간보다 길면 결과가 같음)
+ * - 지표: rate.limit.rejected{scope=role|anonymous|endpoint}, rate.limit.buckets{scope}
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    // 한도 안의 요청 (대기 시간 0)
+    public static final long ALLOWED = 0L;
+
+    private final Map<Role, RateLimitPolicy> rolePolicies = new EnumMap<>(Role.class);
+    private final RateLimitPolicy anonymousPolicy;
+    private final EndpointRule[] endpointRules;
+
+    private final Cache<String, RateLimitBucket> userBuckets;
+    private final Cache<String, RateLimitBucket> anonymousBuckets;
+
+    private final Counter roleRejected;
+    private final Counter anonymousRejected;
+    private final Counter endpointRejected;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        properties.getRoles().forEach((role, limit) -> rolePolicies.put(role, RateLimitPolicy.of(limit)));
+        this.anonymousPolicy = RateLimitPolicy.of(properties.getAnonymous());
+
+        this.userBuckets = newBucketCache(properties);
+        this.anonymousBuckets = newBucketCache(properties);
+        registerSizeGauge(meterRegistry, "role", userBuckets);
+        registerSizeGauge(meterRegistry, "anonymous", anonymousBuckets);
+
+        List<RateLimitProperties.Endpoint> endpoints = properties.getEndpoints();
+        this.endpointRules = new EndpointRule[endpoints.size()];
+        for (int i = 0; i < endpoints.size(); i++) {
+            RateLimitProperties.Endpoint endpoint = endpoints.get(i);
+            endpointRules[i] = new EndpointRule(endpoint.getPath(), RateLimitPolicy.of(endpoint), newBucketCache(properties));
+            registerSizeGauge(meterRegistry, "endpoint", endpointRules[i].buckets, "path", endpoint.getPath());
+        }
+
+        this.roleRejected = rejectedCounter(meterRegistry, "role");
+        this.anonymousRejected = rejectedCounter(meterRegistry, "anonymous");
+        this.endpointRejected = rejectedCounter(meterRegistry, "endpoint");
+
+        log.info("요청 속도 제한 설정 - 권한: {}, 경로: {}", rolePolicies.keySet(), endpoints.size());
+    }
+
+    /**
+     * 요청 하나 허용 시도
+     * 권한(또는 익명) 전체 한도를 먼저 확인하고, 경로별 한도가 있으면 함께 확인
+     *
+     * @param key 인증된 사용자의 이메일, 익명이면 클라이언트 IP
+     * @param role 인증된 사용자의 권한 (익명이면 null)
+     * @param path 요청 경로
+     * @return ALLOWED(0) 이면 허용, 양수면 다음 요청이 허용될 때까지 남은 시간(나노초)
+     */
+    public long tryAcquire(String key, Role role, String path) {
+        long now = System.nanoTime();
+
+        long waitNanos;
+        if (role == null) {
+            waitNanos = acquire(anonymousBuckets, key, anonymousPolicy, now);
+            if (waitNanos != ALLOWED) {
+                anonymousRejected.increment();
+                return waitNanos;
+            }
+        } else {
+            RateLimitPolicy policy = rolePolicies.get(role);
+            if (policy != null) {
+                waitNanos = acquire(userBuckets, key, policy, now);
+                if (waitNanos != ALLOWED) {
+                    roleRejected.increment();
+                    return waitNanos;
+                }
+            }
+        }
+
+        for (EndpointRule rule : endpointRules) {
+            if (rule.matches(path)) {
+                waitNanos = acquire(rule.buckets, key, rule.policy, now);
+                if (waitNanos != ALLOWED) {
+                    endpointRejected.increment();
+                    return waitNanos;
+                }
+            }
+        }
+        return ALLOWED;
+    }
+
+    /**
+     * Retry-After 헤더 값 (남은 대기 시간을 초 단위로 올림, 최소 1초)
+     */
+    public static long retryAfterSeconds(long waitNanos) {
+        long secondNanos = TimeUnit.SECONDS.toNanos(1);
+        return Math.max(1, (waitNanos + secondNanos - 1) / secondNanos);
+    }
+
+    private static long acquire(Cache<String, RateLimitBucket> buckets, String key,
+                                RateLimitPolicy policy, long now) {
+        // 메서드 참조는 캡처가 없으므로 호출마다 새로 만들어지지 않음
+        return buckets.get(key, RateLimiter::newBucket).tryAcquire(policy, now);
+    }
+
+    private static RateLimitBucket newBucket(String key) {
+        return new RateLimitBucket();
+    }
+
+    private static Cache<String, RateLimitBucket> newBucketCache(RateLimitProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    private static void registerSizeGauge(MeterRegistry meterRegistry, String scope,
+                                          Cache<String, RateLimitBucket> buckets, String... tags) {
+        Gauge.builder("rate.limit.buckets", buckets, Cache::estimatedSize)
+                .description("속도 제한 버킷 수 (사용자/IP)")
+                .tag("scope", scope)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("rate.limit.rejected")
+                .description("속도 제한으로 거부된 요청 수")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 경로별 한도 ("/**" 로 끝나면 접두사 일치, 아니면 정확히 일치)
+     */
+    private static class EndpointRule {
+
+        private static final String PREFIX_SUFFIX = "/**";
+
+        private final String path;
+        private final boolean prefixMatch;
+        private final RateLimitPolicy policy;
+        private final Cache<String, RateLimitBucket> buckets;
+
+        private EndpointRule(String path, RateLimitPolicy policy, Cache<String, RateLimitBucket> buckets) {
+            this.prefixMatch = path.endsWith(PREFIX_SUFFIX);
+            this.path = prefixMatch ? path.substring(0, path.length() - PREFIX_SUFFIX.length() + 1) : path;
+            this.policy = policy;
+            this.buckets = buckets;
+        }
+
+        private boolean matches(String requestPath) {
+            return prefixMatch ? requestPath.startsWith(path) : requestPath.equals(path);
+        }
+    }
+}
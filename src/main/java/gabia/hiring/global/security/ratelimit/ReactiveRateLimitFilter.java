@@ -0,0 +1,79 @@
+package gabia.hiring.global.security.ratelimit;
+
+import gabia.hiring.global.exception.ErrorCode;
+import gabia.hiring.global.exception.ErrorResponseRegistry;
+import gabia.hiring.global.security.dto.UserPrincipal;
+import gabia.hiring.global.security.jwt.ReactiveJwtFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+/**
+ * 조회 전용 API(WebFlux)의 요청 속도 제한 필터
+ * RateLimitFilter 와 같은 RateLimiter/한도를 사용하므로 같은 사용자의 Tomcat, 조회 전용 포트 요청이 같은 버킷을 공유
+ *
+ * ReactiveJwtFilter 다음에 등록하여 인증된 사용자는 이메일 + 권한 한도로 제한
+ * 경로 한도는 요청 경로 대신 일치한 라우트 패턴으로 비교 (인코딩한 경로로 우회할 수 없음)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive.read.enabled", havingValue = "true")
+public class ReactiveRateLimitFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    private static final String UNKNOWN_ADDRESS = "unknown";
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ErrorResponseRegistry errorResponseRegistry;
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        if (!properties.isEnabled()) {
+            return next.handle(request);
+        }
+
+        String path = routePath(request);
+        Object principal = request.attribute(ReactiveJwtFilter.PRINCIPAL_ATTRIBUTE).orElse(null);
+
+        long waitNanos;
+        if (principal instanceof UserPrincipal userPrincipal) {
+            waitNanos = rateLimiter.tryAcquire(userPrincipal.getEmail(), userPrincipal.getRole(), path);
+        } else {
+            waitNanos = rateLimiter.tryAcquire(remoteAddress(request), null, path);
+        }
+
+        if (waitNanos != RateLimiter.ALLOWED) {
+            ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+            return ServerResponse.status(errorCode.getStatus())
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(RateLimiter.retryAfterSeconds(waitNanos)))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(errorResponseRegistry.get(errorCode));
+        }
+        return next.handle(request);
+    }
+
+    private static String routePath(ServerRequest request) {
+        return request.attribute(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE)
+                .map(pattern -> ((PathPattern) pattern).getPatternString())
+                .orElseGet(request::path);
+    }
+
+    private static String remoteAddress(ServerRequest request) {
+        return request.remoteAddress()
+                .map(InetSocketAddress::getAddress)
+                .map(InetAddress::getHostAddress)
+                .orElse(UNKNOWN_ADDRESS);
+    }
+}
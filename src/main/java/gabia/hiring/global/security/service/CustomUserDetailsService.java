@@ -2,6 +2,8 @@ package gabia.hiring.global.security.service;
 
 import gabia.hiring.domain.user.entity.User;
 import gabia.hiring.domain.user.repository.UserRepository;
+import gabia.hiring.global.security.dto.CustomUserDetails;
+import gabia.hiring.global.security.dto.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,7 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * 역할:
  * 1. 로그인 시 사용자 인증에 사용
- * 2. JWT 필터에서 토큰의 사용자명으로 사용자 정보 조회
+ * 2. JWT 필터에서 토큰의 사용자명으로 사용자 정보 조회 (PrincipalCache 미스 시)
  * 3. Spring Security가 사용자 정보를 필요로 할 때마다 호출
  */
 @Service
@@ -42,9 +44,34 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Transactional(readOnly = true)  // 조회용이므로 읽기 전용 트랜잭션
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
+        User user = findUser(email);
+
+        // 2. User 엔티티를 UserDetails 구현체로 감싸서 반환
+        // Spring Security가 이 정보를 사용하여:
+        // - 비밀번호 검증 (로그인 시)
+        // - 권한 확인 (접근 제어)
+        // - 사용자 정보 제공 (@AuthenticationPrincipal)
+        return new CustomUserDetails(user);
+    }
+
+    /**
+     * 이메일로 인증 정보 스냅샷 조회
+     * JWT 필터의 PrincipalCache가 캐시 미스일 때 호출
+     * 비밀번호를 제외한 id, 이메일, 권한만 담은 불변 객체를 반환
+     *
+     * @param email 조회할 사용자 이메일
+     * @return 인증 정보 스냅샷
+     * @throws UsernameNotFoundException 사용자를 찾을 수 없을 때
+     */
+    @Transactional(readOnly = true)
+    public UserPrincipal loadPrincipalByEmail(String email) throws UsernameNotFoundException {
+        return UserPrincipal.from(findUser(email));
+    }
+
+    private User findUser(String email) {
         log.debug("사용자 조회 시도: {}", email);
 
-        // 1. 사용자명으로 DB에서 사용자 정보 조회
+        // 사용자명으로 DB에서 사용자 정보 조회
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> {
                     log.error("사용자를 찾을 수 없습니다: {}", email);
@@ -52,12 +79,6 @@ public class CustomUserDetailsService implements UserDetailsService {
                 });
 
         log.debug("사용자 조회 성공: {}, 권한: {}", email, user.getRole());
-
-        // 2. User 엔티티가 UserDetails를 구현하므로 그대로 반환
-        // Spring Security가 이 정보를 사용하여:
-        // - 비밀번호 검증 (로그인 시)
-        // - 권한 확인 (접근 제어)
-        // - 사용자 정보 제공 (@AuthenticationPrincipal)
-        return (UserDetails) user;
+        return user;
     }
 }
@@ -0,0 +1,84 @@
+package gabia.hiring.global.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gabia.hiring.global.security.dto.UserPrincipal;
+import gabia.hiring.global.security.event.UserAuthorityChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 인증된 사용자 정보(UserPrincipal) 캐시
+ * JWT 필터가 매 요청마다 users 테이블을 조회하지 않도록 이메일별 스냅샷을 보관
+ *
+ * - TTL: security.principal-cache.ttl-seconds 이후 다시 DB에서 조회
+ * - 크기: security.principal-cache.maximum-size 로 제한
+ * - 무효화: 권한/비밀번호를 바꾸는 코드는 UserAuthorityChangedEvent 를 발행해야 함
+ *   (현재 비밀번호를 바꾸는 곳은 로그인 시 재해시(AuthServiceImpl.upgradePassword) 뿐이고 권한 변경 API 는 없음)
+ * - 지표: cache.gets{cache="principal", result="hit|miss"} 등으로 노출
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, UserPrincipal> cache;
+    private final Function<String, UserPrincipal> loader;
+
+    public PrincipalCache(CustomUserDetailsService customUserDetailsService,
+                          MeterRegistry meterRegistry,
+                          @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                          @Value("${security.principal-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.loader = customUserDetailsService::loadPrincipalByEmail;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal");
+    }
+
+    /**
+     * 이메일로 인증 정보 조회 (캐시에 없으면 DB에서 조회 후 저장)
+     *
+     * @param email 사용자 이메일 (토큰의 subject)
+     * @return 인증 정보 스냅샷
+     * @throws UsernameNotFoundException 사용자를 찾을 수 없을 때 (결과는 캐시하지 않음)
+     */
+    public UserPrincipal get(String email) {
+        return cache.get(email, loader);
+    }
+
+    /**
+     * 특정 사용자의 캐시 제거
+     * 권한 또는 비밀번호가 변경된 직후 호출
+     */
+    public void invalidate(String email) {
+        cache.invalidate(email);
+        log.debug("인증 정보 캐시 제거: {}", email);
+    }
+
+    /**
+     * 전체 캐시 제거
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 권한/비밀번호 변경 이벤트 처리
+     * 트랜잭션이 커밋된 뒤에 제거해야 다른 요청이 이전 값을 다시 캐시하지 않음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAuthorityChanged(UserAuthorityChangedEvent event) {
+        invalidate(event.getEmail());
+    }
+}
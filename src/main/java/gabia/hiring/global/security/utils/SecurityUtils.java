@@ -0,0 +1,33 @@
+package gabia.hiring.global.security.utils;
+
+import gabia.hiring.global.exception.ErrorCode;
+import gabia.hiring.global.exception.HiringException;
+import gabia.hiring.global.security.dto.UserPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Security Context에 저장된 인증 정보 조회 유틸
+ * JwtFilter가 설정한 UserPrincipal을 서비스 계층에서 DB 조회 없이 사용하기 위함
+ */
+public final class SecurityUtils {
+
+    private SecurityUtils() {
+    }
+
+    /**
+     * 현재 요청의 인증된 사용자 조회
+     *
+     * @return 인증 정보 스냅샷 (id, 이메일, 권한)
+     * @throws HiringException 인증되지 않은 요청인 경우 (UNAUTHORIZED, 401)
+     */
+    public static UserPrincipal getCurrentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            throw new HiringException(ErrorCode.UNAUTHORIZED);
+        }
+
+        return principal;
+    }
+}
@@ -0,0 +1,47 @@
+-- 기준 스키마 (ddl-auto=update 로 만들어지던 스키마와 동일)
+-- 이미 테이블이 있는 DB는 spring.flyway.baseline-on-migrate 로 V1을 건너뜀
+
+CREATE TABLE IF NOT EXISTS users (
+    id        BIGINT NOT NULL AUTO_INCREMENT,
+    email     VARCHAR(255),
+    password  VARCHAR(255),
+    role      ENUM ('USER','ADMIN','COMPANY'),
+    user_name VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS individual_profile (
+    id        BIGINT NOT NULL AUTO_INCREMENT,
+    birth     DATETIME(6),
+    education VARCHAR(255),
+    gender    ENUM ('MALE','FEMALE'),
+    user_id   BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_individual_profile_user UNIQUE (user_id),
+    CONSTRAINT fk_individual_profile_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS company_profile (
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    name    VARCHAR(255),
+    user_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_company_profile_user UNIQUE (user_id),
+    CONSTRAINT fk_company_profile_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS board (
+    board_id   BIGINT NOT NULL,
+    board_type ENUM ('BOARD_PUBLIC','BOARD_COMPANY','BOARD_ADMIN','BOARD_NOTICE'),
+    content    VARCHAR(2000),
+    created_at DATETIME(6),
+    title      VARCHAR(50),
+    updated_at DATETIME(6),
+    user_id    BIGINT,
+    PRIMARY KEY (board_id),
+    CONSTRAINT fk_board_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+-- Board id 시퀀스 (allocationSize 50 과 같은 증가폭)
+CREATE SEQUENCE IF NOT EXISTS board_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,11 @@
+-- 게시판 조회 패턴용 복합 인덱스
+
+-- 권한별 목록/커서 조회: board_type IN (...) ORDER BY created_at DESC, board_id DESC
+-- 기간 조회(findBoardsByTypesAndDateAfter): board_type IN (...) AND created_at >= ?
+CREATE INDEX IF NOT EXISTS idx_board_type_created_at ON board (board_type, created_at, board_id);
+
+-- 작성자별 조회(findByUserId), 최신순 정렬
+CREATE INDEX IF NOT EXISTS idx_board_user_created_at ON board (user_id, created_at);
+
+-- baseline 처리된 기존 DB(V1 미적용)에 시퀀스가 없으면 생성 (ddl-auto=validate 대비)
+CREATE SEQUENCE IF NOT EXISTS board_seq START WITH 1 INCREMENT BY 50;
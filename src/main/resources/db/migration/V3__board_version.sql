@@ -0,0 +1,3 @@
+-- 게시글 낙관적 잠금 버전 (Board.version, ETag / If-Match 에 사용)
+-- 기존 게시글은 0 버전으로 시작
+ALTER TABLE board ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
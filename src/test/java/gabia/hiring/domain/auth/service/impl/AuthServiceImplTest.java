@@ -0,0 +1,126 @@
+package gabia.hiring.domain.auth.service.impl;
+
+import gabia.hiring.domain.auth.dto.TokenResponse;
+import gabia.hiring.domain.user.entity.Role;
+import gabia.hiring.domain.user.repository.UserRepository;
+import gabia.hiring.global.exception.ErrorCode;
+import gabia.hiring.global.exception.HiringException;
+import gabia.hiring.global.security.dto.UserPrincipal;
+import gabia.hiring.global.security.jwt.AuthFailureLog;
+import gabia.hiring.global.security.jwt.JwtTokenProvider;
+import gabia.hiring.global.security.jwt.RefreshTokenStore;
+import gabia.hiring.global.security.jwt.RevokedTokenRegistry;
+import gabia.hiring.global.security.jwt.VerifiedTokenCache;
+import gabia.hiring.global.security.password.PasswordHashExecutor;
+import gabia.hiring.global.security.service.PrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Refresh Token 회전/재사용 감지/로그아웃 검사
+ * 토큰 서명/검증과 패밀리/폐기 저장소는 실제 구현을 사용하고 사용자 조회만 대체
+ */
+class AuthServiceImplTest {
+
+    private static final String SECRET = "test-secret-key-for-refresh-token-rotation-0123456789";
+    private static final String EMAIL = "user@gabia.com";
+
+    private final RefreshTokenStore refreshTokenStore = new RefreshTokenStore();
+    private final RevokedTokenRegistry revokedTokenRegistry = new RevokedTokenRegistry();
+    private final JwtTokenProvider jwtTokenProvider =
+            new JwtTokenProvider(SECRET, 900, 1_209_600, false, new VerifiedTokenCache(1_000));
+    private final PrincipalCache principalCache = mock(PrincipalCache.class);
+    private final UserPrincipal principal = new UserPrincipal(1L, EMAIL, Role.USER);
+
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        when(principalCache.get(EMAIL)).thenReturn(principal);
+
+        authService = new AuthServiceImpl(
+                jwtTokenProvider,
+                refreshTokenStore,
+                revokedTokenRegistry,
+                principalCache,
+                mock(UserRepository.class),
+                new BCryptPasswordEncoder(4),
+                mock(PasswordHashExecutor.class),
+                Runnable::run,
+                new AuthFailureLog(new SimpleMeterRegistry()),
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void 회전하면_새_Refresh_Token으로_다시_회전할_수_있다() {
+        TokenResponse issued = authService.issueTokens(principal);
+
+        TokenResponse rotated = authService.refresh(issued.getRefreshToken());
+        TokenResponse rotatedAgain = authService.refresh(rotated.getRefreshToken());
+
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(issued.getRefreshToken());
+        assertThat(familyId(rotatedAgain.getRefreshToken())).isEqualTo(familyId(issued.getRefreshToken()));
+        assertThat(revokedTokenRegistry.isRevoked(familyId(issued.getRefreshToken()))).isFalse();
+    }
+
+    @Test
+    void 회전된_이전_Refresh_Token을_다시_제출하면_T002로_거부하고_패밀리를_폐기한다() {
+        TokenResponse issued = authService.issueTokens(principal);
+        TokenResponse rotated = authService.refresh(issued.getRefreshToken());
+        String familyId = familyId(issued.getRefreshToken());
+
+        assertErrorCode(() -> authService.refresh(issued.getRefreshToken()), ErrorCode.REUSED_REFRESH_TOKEN);
+
+        // 패밀리의 Access Token 은 폐기 목록으로, 최신 Refresh Token 은 패밀리 제거로 거부
+        assertThat(revokedTokenRegistry.isRevoked(familyId)).isTrue();
+        assertErrorCode(() -> authService.refresh(rotated.getRefreshToken()), ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    void 로그아웃하면_패밀리를_폐기하고_Refresh_Token을_거부한다() {
+        TokenResponse issued = authService.issueTokens(principal);
+        String familyId = familyId(issued.getRefreshToken());
+
+        authService.logout(issued.getRefreshToken());
+
+        assertThat(revokedTokenRegistry.isRevoked(familyId)).isTrue();
+        assertErrorCode(() -> authService.refresh(issued.getRefreshToken()), ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    void 다른_로그인의_패밀리는_폐기되지_않는다() {
+        TokenResponse first = authService.issueTokens(principal);
+        TokenResponse second = authService.issueTokens(principal);
+
+        authService.logout(first.getRefreshToken());
+
+        assertThat(revokedTokenRegistry.isRevoked(familyId(second.getRefreshToken()))).isFalse();
+        assertThat(authService.refresh(second.getRefreshToken()).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    void Access_Token으로는_회전할_수_없다() {
+        TokenResponse issued = authService.issueTokens(principal);
+
+        assertErrorCode(() -> authService.refresh(issued.getAccessToken()), ErrorCode.INVALID_TOKEN);
+    }
+
+    private String familyId(String token) {
+        return jwtTokenProvider.verify(token).getFamilyId();
+    }
+
+    private static void assertErrorCode(Runnable action, ErrorCode errorCode) {
+        assertThatThrownBy(action::run)
+                .isInstanceOf(HiringException.class)
+                .extracting(e -> ((HiringException) e).getErrorCode())
+                .isEqualTo(errorCode);
+    }
+}
@@ -0,0 +1,89 @@
+package gabia.hiring.domain.board.policy;
+
+import gabia.hiring.domain.board.entity.BoardType;
+import gabia.hiring.domain.user.entity.Role;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 권한(Role) × 게시판 종류(BoardType) × 동작(BoardAction) 권한 표 검사
+ * 표의 모든 칸을 나열하므로 규칙이 바뀌면 어느 칸이 바뀌었는지 테스트에서 드러남
+ */
+class BoardAccessPolicyTest {
+
+    @ParameterizedTest(name = "{0} {2} {1} → {3}")
+    @CsvSource({
+            "USER,     BOARD_PUBLIC,  READ,    true",
+            "USER,     BOARD_COMPANY, READ,    false",
+            "USER,     BOARD_ADMIN,   READ,    false",
+            "USER,     BOARD_NOTICE,  READ,    true",
+            "USER,     BOARD_PUBLIC,  CREATE,  true",
+            "USER,     BOARD_COMPANY, CREATE,  false",
+            "USER,     BOARD_ADMIN,   CREATE,  false",
+            "USER,     BOARD_NOTICE,  CREATE,  false",
+            "USER,     BOARD_PUBLIC,  MANAGE,  false",
+            "USER,     BOARD_COMPANY, MANAGE,  false",
+            "USER,     BOARD_ADMIN,   MANAGE,  false",
+            "USER,     BOARD_NOTICE,  MANAGE,  false",
+            "COMPANY,  BOARD_PUBLIC,  READ,    true",
+            "COMPANY,  BOARD_COMPANY, READ,    true",
+            "COMPANY,  BOARD_ADMIN,   READ,    false",
+            "COMPANY,  BOARD_NOTICE,  READ,    true",
+            "COMPANY,  BOARD_PUBLIC,  CREATE,  true",
+            "COMPANY,  BOARD_COMPANY, CREATE,  true",
+            "COMPANY,  BOARD_ADMIN,   CREATE,  false",
+            "COMPANY,  BOARD_NOTICE,  CREATE,  false",
+            "COMPANY,  BOARD_PUBLIC,  MANAGE,  false",
+            "COMPANY,  BOARD_COMPANY, MANAGE,  false",
+            "COMPANY,  BOARD_ADMIN,   MANAGE,  false",
+            "COMPANY,  BOARD_NOTICE,  MANAGE,  false",
+            "ADMIN,    BOARD_PUBLIC,  READ,    true",
+            "ADMIN,    BOARD_COMPANY, READ,    true",
+            "ADMIN,    BOARD_ADMIN,   READ,    true",
+            "ADMIN,    BOARD_NOTICE,  READ,    true",
+            "ADMIN,    BOARD_PUBLIC,  CREATE,  true",
+            "ADMIN,    BOARD_COMPANY, CREATE,  true",
+            "ADMIN,    BOARD_ADMIN,   CREATE,  true",
+            "ADMIN,    BOARD_NOTICE,  CREATE,  true",
+            "ADMIN,    BOARD_PUBLIC,  MANAGE,  true",
+            "ADMIN,    BOARD_COMPANY, MANAGE,  true",
+            "ADMIN,    BOARD_ADMIN,   MANAGE,  true",
+            "ADMIN,    BOARD_NOTICE,  MANAGE,  true"
+    })
+    void 권한_표의_모든_칸을_검사한다(Role role, BoardType boardType, BoardAction action, boolean expected) {
+        assertThat(BoardAccessPolicy.can(role, boardType, action)).isEqualTo(expected);
+    }
+
+    @Test
+    void 표의_칸_수는_권한_게시판_동작_조합의_수와_같다() {
+        // 새 권한/게시판/동작이 추가되면 위 표에 행을 추가해야 함
+        assertThat(Role.values().length * BoardType.values().length * BoardAction.values().length).isEqualTo(36);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Role.class)
+    void 조회_가능한_게시판_목록은_표의_READ_칸과_같다(Role role) {
+        List<BoardType> expected = Arrays.stream(BoardType.values())
+                .filter(boardType -> BoardAccessPolicy.canRead(role, boardType))
+                .toList();
+
+        assertThat(BoardAccessPolicy.readableTypes(role)).containsExactlyElementsOf(expected);
+        assertThat(BoardAccessPolicy.readableTypeSet(role)).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Role.class)
+    void 작성자는_권한과_관계없이_자신의_게시글을_관리할_수_있다(Role role) {
+        for (BoardType boardType : BoardType.values()) {
+            assertThat(BoardAccessPolicy.canManage(role, boardType, true)).isTrue();
+            assertThat(BoardAccessPolicy.canManage(role, boardType, false)).isEqualTo(role == Role.ADMIN);
+        }
+    }
+}
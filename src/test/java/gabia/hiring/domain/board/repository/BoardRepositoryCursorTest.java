@@ -0,0 +1,131 @@
+package gabia.hiring.domain.board.repository;
+
+import gabia.hiring.domain.board.dto.BoardCursor;
+import gabia.hiring.domain.board.dto.BoardSliceResponse;
+import gabia.hiring.domain.board.dto.BoardSummaryResponse;
+import gabia.hiring.domain.board.entity.Board;
+import gabia.hiring.domain.board.entity.BoardType;
+import gabia.hiring.domain.user.entity.User;
+import gabia.hiring.global.config.JpaConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커서 기반 목록 조회 검사
+ * 감사 설정 이전에 저장되어 createdAt 이 NULL 인 게시글이 섞여 있어도 마지막 페이지까지 빠짐없이 조회되어야 함
+ */
+@DataJpaTest
+@Import(JpaConfig.class)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // Flyway 마이그레이션은 MariaDB 문법이므로 H2 에서는 엔티티 매핑으로 스키마 생성
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class BoardRepositoryCursorTest {
+
+    private static final List<BoardType> TYPES = List.of(BoardType.BOARD_PUBLIC);
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    // 최신순 정렬 기대값 (createdAt 이 있는 게시글 → createdAt 이 NULL 인 게시글 id 역순)
+    private final List<Long> expectedOrder = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(User.builder()
+                .email("user@gabia.com")
+                .password("password")
+                .userName("user")
+                .build());
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(entityManager.persist(Board.builder()
+                    .title("게시글 " + i)
+                    .content("게시글 내용입니다 " + i)
+                    .user(user)
+                    .boardType(BoardType.BOARD_PUBLIC)
+                    .build()).getId());
+        }
+        entityManager.flush();
+
+        // 앞의 4건은 감사 설정 이전 게시글 (createdAt 없음)
+        for (int i = 0; i < 4; i++) {
+            setCreatedAt(ids.get(i), null);
+        }
+        // 나머지는 5, 6 번이 같은 시각 (id 로 순서 결정)
+        setCreatedAt(ids.get(4), BASE);
+        setCreatedAt(ids.get(5), BASE.plusMinutes(1));
+        setCreatedAt(ids.get(6), BASE.plusMinutes(1));
+        entityManager.clear();
+
+        expectedOrder.addAll(List.of(ids.get(6), ids.get(5), ids.get(4), ids.get(3), ids.get(2), ids.get(1), ids.get(0)));
+    }
+
+    @Test
+    void createdAt이_없는_게시글이_섞여도_모든_게시글을_한_번씩_조회한다() {
+        assertThat(scrollAll(2)).containsExactlyElementsOf(expectedOrder);
+        assertThat(scrollAll(3)).containsExactlyElementsOf(expectedOrder);
+    }
+
+    @Test
+    void createdAt이_없는_게시글에서_끝난_페이지도_다음_커서를_준다() {
+        // 1페이지: 날짜 있는 3건 + NULL 1건
+        BoardSliceResponse page = BoardSliceResponse.of(
+                boardRepository.findFirstPageByTypes(TYPES, Limit.of(5)), 4);
+
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(BoardCursor.decode(page.getNextCursor()).isUndated()).isTrue();
+    }
+
+    private List<Long> scrollAll(int pageSize) {
+        List<Long> seen = new ArrayList<>();
+        Limit limit = Limit.of(pageSize + 1);
+
+        BoardSliceResponse page = BoardSliceResponse.of(boardRepository.findFirstPageByTypes(TYPES, limit), pageSize);
+        collect(page, seen);
+        while (page.isHasNext()) {
+            BoardCursor cursor = BoardCursor.decode(page.getNextCursor());
+            page = BoardSliceResponse.of(boardRepository.findNextPageByTypes(TYPES, cursor, limit), pageSize);
+            collect(page, seen);
+        }
+        return seen;
+    }
+
+    private static void collect(BoardSliceResponse page, List<Long> seen) {
+        page.getBoards().stream().map(BoardSummaryResponse::getId).forEach(seen::add);
+    }
+
+    private void setCreatedAt(Long boardId, LocalDateTime createdAt) {
+        if (createdAt == null) {
+            entityManager.getEntityManager()
+                    .createNativeQuery("UPDATE board SET created_at = NULL WHERE board_id = :boardId")
+                    .setParameter("boardId", boardId)
+                    .executeUpdate();
+            return;
+        }
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE board SET created_at = :createdAt WHERE board_id = :boardId")
+                .setParameter("createdAt", createdAt)
+                .setParameter("boardId", boardId)
+                .executeUpdate();
+    }
+}
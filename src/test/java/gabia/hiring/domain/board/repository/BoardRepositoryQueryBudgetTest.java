@@ -0,0 +1,98 @@
+package gabia.hiring.domain.board.repository;
+
+import gabia.hiring.domain.board.dto.BoardResponse;
+import gabia.hiring.domain.board.entity.Board;
+import gabia.hiring.domain.board.entity.BoardType;
+import gabia.hiring.domain.user.entity.Role;
+import gabia.hiring.domain.user.entity.User;
+import gabia.hiring.global.config.JpaConfig;
+import gabia.hiring.support.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시판 목록/권한 체크의 SQL 실행 횟수 검사
+ * 작성자(LAZY) 로딩으로 게시글마다 users 조회가 발생하면 실패
+ */
+@DataJpaTest
+@Import(JpaConfig.class)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // Flyway 마이그레이션은 MariaDB 문법이므로 H2 에서는 엔티티 매핑으로 스키마 생성
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=gabia.hiring.support.QueryCountInspector"
+})
+class BoardRepositoryQueryBudgetTest {
+
+    private static final int BOARD_COUNT = 20;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long firstUserId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            User user = entityManager.persist(User.builder()
+                    .email("user" + i + "@gabia.com")
+                    .password("password")
+                    .userName("user" + i)
+                    .build());
+            if (firstUserId == null) {
+                firstUserId = user.getId();
+            }
+
+            entityManager.persist(Board.builder()
+                    .title("게시글 " + i)
+                    .content("게시글 내용입니다 " + i)
+                    .user(user)
+                    .boardType(BoardType.BOARD_PUBLIC)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 작성자를_포함한_페이징_목록은_조회_쿼리와_카운트_쿼리만_실행한다() {
+        QueryBudget.assertAtMost(2, () -> {
+            Page<Board> boards = boardRepository.findByBoardTypeIn(
+                    List.of(BoardType.BOARD_PUBLIC), PageRequest.of(0, 10));
+
+            List<BoardResponse> responses = boards.map(BoardResponse::withAuthor).getContent();
+
+            assertThat(responses).hasSize(10);
+            assertThat(responses).allMatch(response -> response.getAuthorName() != null);
+        });
+    }
+
+    @Test
+    void 목록의_관리_권한_체크는_작성자를_로딩하지_않는다() {
+        QueryBudget.assertAtMost(1, () -> {
+            List<Board> boards = boardRepository.findByBoardTypeIn(List.of(BoardType.BOARD_PUBLIC));
+
+            long manageable = boards.stream()
+                    .filter(board -> board.canManage(firstUserId, Role.USER))
+                    .count();
+
+            assertThat(boards).hasSize(BOARD_COUNT);
+            assertThat(manageable).isEqualTo(1);
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package gabia.hiring.domain.board.search;
+
+import gabia.hiring.domain.board.entity.BoardType;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시판 검색 색인 검사 (토큰 분리, 재색인 중 검색/변경 반영)
+ */
+class BoardSearchIndexTest {
+
+    private static final Set<BoardType> ALL_TYPES = EnumSet.allOf(BoardType.class);
+
+    private final BoardSearchIndex index = new BoardSearchIndex();
+
+    @Test
+    void 한_글자_검색어로_긴_단어_안의_글자를_찾는다() {
+        index.index(1L, BoardType.BOARD_PUBLIC, "백엔드 개발자 채용", "자바 경력");
+
+        assertThat(index.search("발", ALL_TYPES, 10)).containsExactly(1L);
+        assertThat(index.search("b", ALL_TYPES, 10)).isEmpty();
+    }
+
+    @Test
+    void 한_글자_영문_검색어도_단어_안의_글자와_일치한다() {
+        index.index(1L, BoardType.BOARD_PUBLIC, "Backend", "java");
+        index.index(2L, BoardType.BOARD_PUBLIC, "Frontend", "react");
+
+        assertThat(index.search("j", ALL_TYPES, 10)).containsExactly(1L);
+        assertThat(index.search("E", ALL_TYPES, 10)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 검색어는_2_gram으로_분리하고_게시글은_1_gram도_색인한다() {
+        assertThat(BoardSearchTokenizer.tokenizeQuery("개발자").keySet()).containsExactlyInAnyOrder("개발", "발자");
+        assertThat(BoardSearchTokenizer.tokenize("개발자").keySet())
+                .containsExactlyInAnyOrder("개발", "발자", "개", "발", "자");
+    }
+
+    @Test
+    void 재색인_중에도_기존_색인으로_검색한다() {
+        index.index(1L, BoardType.BOARD_PUBLIC, "백엔드 개발자", null);
+
+        index.beginRebuild();
+        index.indexForRebuild(2L, BoardType.BOARD_PUBLIC, "백엔드 개발자", null);
+
+        assertThat(index.search("백엔드", ALL_TYPES, 10)).containsExactly(1L);
+
+        index.completeRebuild();
+
+        assertThat(index.search("백엔드", ALL_TYPES, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void 재색인_중_변경_이벤트는_DB에서_읽은_이전_값으로_덮어쓰지_않는다() {
+        index.beginRebuild();
+        index.index(1L, BoardType.BOARD_PUBLIC, "수정된 제목", null);
+        index.remove(2L);
+
+        // 변경 이전에 읽힌 행
+        index.indexForRebuild(1L, BoardType.BOARD_PUBLIC, "이전 제목", null);
+        index.indexForRebuild(2L, BoardType.BOARD_PUBLIC, "삭제된 게시글", null);
+        index.completeRebuild();
+
+        assertThat(index.search("수정된", ALL_TYPES, 10)).containsExactly(1L);
+        assertThat(index.search("이전", ALL_TYPES, 10)).isEmpty();
+        assertThat(index.search("삭제된", ALL_TYPES, 10)).isEmpty();
+    }
+
+    @Test
+    void 재색인을_취소하면_기존_색인을_유지한다() {
+        index.index(1L, BoardType.BOARD_PUBLIC, "백엔드 개발자", null);
+
+        index.beginRebuild();
+        index.indexForRebuild(2L, BoardType.BOARD_PUBLIC, "프론트엔드", null);
+        index.abortRebuild();
+
+        assertThat(index.search("백엔드", ALL_TYPES, 10)).containsExactly(1L);
+        assertThat(index.search("프론트", ALL_TYPES, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,121 @@
+package gabia.hiring.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import gabia.hiring.global.config.ReadWriteRoutingDataSource.Route;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 검사
+ * MariaDB primary/replica 대신 MariaDB 호환 모드의 H2 두 개를 사용
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final int PRIMARY_POOL_SIZE = 2;
+    private static final int REPLICA_POOL_SIZE = 4;
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = pool("primary", PRIMARY_POOL_SIZE);
+        replica = pool("replica", REPLICA_POOL_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica를_사용한다() {
+        DataSource dataSource = DataSourceRoutingConfig.routingDataSource(primary, replica);
+
+        assertThat(databaseName(dataSource, true)).isEqualTo("replica");
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_primary를_사용한다() {
+        DataSource dataSource = DataSourceRoutingConfig.routingDataSource(primary, replica);
+
+        assertThat(databaseName(dataSource, false)).isEqualTo("primary");
+    }
+
+    @Test
+    void 트랜잭션_밖의_호출은_primary를_사용한다() {
+        DataSource dataSource = DataSourceRoutingConfig.routingDataSource(primary, replica);
+
+        assertThat(new JdbcTemplate(dataSource).queryForObject("SELECT name FROM db_marker", String.class))
+                .isEqualTo("primary");
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션의_조회_키는_REPLICA다() {
+        assertThat(lookupKey(true)).isEqualTo(Route.REPLICA);
+    }
+
+    @Test
+    void 쓰기_트랜잭션의_조회_키는_PRIMARY다() {
+        assertThat(lookupKey(false)).isEqualTo(Route.PRIMARY);
+    }
+
+    @Test
+    void 트랜잭션_밖의_조회_키는_PRIMARY다() {
+        assertThat(new ReadWriteRoutingDataSource().determineCurrentLookupKey()).isEqualTo(Route.PRIMARY);
+    }
+
+    @Test
+    void 쓰기_트랜잭션에_참여한_읽기_전용_호출의_조회_키는_PRIMARY다() {
+        TransactionTemplate writeTransaction = transactionTemplate(false);
+        TransactionTemplate readTransaction = transactionTemplate(true);
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+
+        Object lookupKey = writeTransaction.execute(outer ->
+                readTransaction.execute(inner -> routingDataSource.determineCurrentLookupKey()));
+
+        assertThat(lookupKey).isEqualTo(Route.PRIMARY);
+    }
+
+    private String databaseName(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM db_marker", String.class));
+    }
+
+    private Object lookupKey(boolean readOnly) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+        return transactionTemplate(readOnly).execute(status -> routingDataSource.determineCurrentLookupKey());
+    }
+
+    private TransactionTemplate transactionTemplate(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(primary));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate;
+    }
+
+    private static HikariDataSource pool(String name, int size) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";MODE=MariaDB;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(size);
+        dataSource.setConnectionTimeout(5_000);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS db_marker (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM db_marker");
+        jdbcTemplate.update("INSERT INTO db_marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
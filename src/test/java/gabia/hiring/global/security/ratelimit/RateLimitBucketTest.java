@@ -0,0 +1,76 @@
+package gabia.hiring.global.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA 버킷 계산 검사 (시각을 직접 넘겨 System.nanoTime 에 의존하지 않음)
+ */
+class RateLimitBucketTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // 초당 10개 (요청 하나가 100ms), 한 번에 5개까지 허용
+    private final RateLimitPolicy policy = RateLimitPolicy.of(limit(10, 5));
+
+    private final RateLimitBucket bucket = new RateLimitBucket();
+
+    @Test
+    void 가득_찬_버킷은_burst_개수만큼_한_번에_허용한다() {
+        long now = 1_000 * MILLIS;
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(policy, now)).isZero();
+        }
+        assertThat(bucket.tryAcquire(policy, now)).isEqualTo(100 * MILLIS);
+    }
+
+    @Test
+    void 거부된_요청은_버킷_상태를_바꾸지_않는다() {
+        long now = 1_000 * MILLIS;
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(policy, now);
+        }
+
+        assertThat(bucket.tryAcquire(policy, now)).isEqualTo(100 * MILLIS);
+        assertThat(bucket.tryAcquire(policy, now + 40 * MILLIS)).isEqualTo(60 * MILLIS);
+    }
+
+    @Test
+    void 대기_시간이_지나면_충전된_만큼만_다시_허용한다() {
+        long now = 1_000 * MILLIS;
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(policy, now);
+        }
+
+        long later = now + 250 * MILLIS;
+        assertThat(bucket.tryAcquire(policy, later)).isZero();
+        assertThat(bucket.tryAcquire(policy, later)).isZero();
+        assertThat(bucket.tryAcquire(policy, later)).isEqualTo(50 * MILLIS);
+    }
+
+    @Test
+    void 음수_시각에서도_첫_요청을_허용한다() {
+        assertThat(bucket.tryAcquire(policy, -1_000 * MILLIS)).isZero();
+    }
+
+    @Test
+    void Retry_After는_초_단위로_올림하고_최소_1초다() {
+        long second = TimeUnit.SECONDS.toNanos(1);
+
+        assertThat(RateLimiter.retryAfterSeconds(1)).isEqualTo(1);
+        assertThat(RateLimiter.retryAfterSeconds(second)).isEqualTo(1);
+        assertThat(RateLimiter.retryAfterSeconds(second + 1)).isEqualTo(2);
+        assertThat(RateLimiter.retryAfterSeconds(0)).isEqualTo(1);
+    }
+
+    private static RateLimitProperties.Limit limit(double requestsPerSecond, int burst) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setRequestsPerSecond(requestsPerSecond);
+        limit.setBurst(burst);
+        return limit;
+    }
+}
@@ -0,0 +1,124 @@
+package gabia.hiring.global.security.ratelimit;
+
+import gabia.hiring.domain.user.entity.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한도 종류별 키 분리, 경로 한도 일치, 오래 쓰지 않은 버킷 제거 검사
+ * (충전 간격을 길게 잡아 테스트 중에는 버킷이 다시 차지 않음)
+ */
+class RateLimiterTest {
+
+    // 1000초에 1개 - 테스트 중 충전되지 않음
+    private static final double NO_REFILL = 0.001;
+
+    private static final String EMAIL = "user@gabia.com";
+    private static final String ADDRESS = "10.0.0.1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 익명_요청은_IP별로_burst_개수까지_허용한다() {
+        RateLimiter rateLimiter = rateLimiter(properties());
+
+        assertAllowed(rateLimiter, 2, ADDRESS, null, "/api/board");
+        assertThat(rateLimiter.tryAcquire(ADDRESS, null, "/api/board")).isPositive();
+        assertThat(rateLimiter.tryAcquire("10.0.0.2", null, "/api/board")).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(meterRegistry.get("rate.limit.rejected").tag("scope", "anonymous").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 인증된_요청은_익명과_다른_버킷과_권한_한도를_쓴다() {
+        RateLimiter rateLimiter = rateLimiter(properties());
+
+        // 같은 키라도 익명 버킷을 소진해도 인증된 사용자 버킷에는 영향 없음
+        assertAllowed(rateLimiter, 2, EMAIL, null, "/api/board");
+        assertThat(rateLimiter.tryAcquire(EMAIL, null, "/api/board")).isPositive();
+
+        assertAllowed(rateLimiter, 4, EMAIL, Role.USER, "/api/board");
+        assertThat(rateLimiter.tryAcquire(EMAIL, Role.USER, "/api/board")).isPositive();
+        assertThat(meterRegistry.get("rate.limit.rejected").tag("scope", "role").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 한도가_없는_권한은_제한하지_않는다() {
+        RateLimiter rateLimiter = rateLimiter(properties());
+
+        assertAllowed(rateLimiter, 100, EMAIL, Role.ADMIN, "/api/board");
+    }
+
+    @Test
+    void 경로_한도는_정확히_일치하는_경로에만_적용한다() {
+        RateLimitProperties properties = properties();
+        properties.getEndpoints().add(endpoint("/api/board/search", 1));
+        RateLimiter rateLimiter = rateLimiter(properties);
+
+        assertAllowed(rateLimiter, 1, EMAIL, Role.USER, "/api/board/search");
+        assertThat(rateLimiter.tryAcquire(EMAIL, Role.USER, "/api/board/search")).isPositive();
+        assertThat(rateLimiter.tryAcquire(EMAIL, Role.USER, "/api/board/search/1")).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(meterRegistry.get("rate.limit.rejected").tag("scope", "endpoint").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 경로_한도가_별표로_끝나면_접두사로_일치한다() {
+        RateLimitProperties properties = properties();
+        properties.getEndpoints().add(endpoint("/api/auth/**", 1));
+        RateLimiter rateLimiter = rateLimiter(properties);
+
+        assertAllowed(rateLimiter, 1, ADDRESS, null, "/api/auth/login");
+        assertThat(rateLimiter.tryAcquire(ADDRESS, null, "/api/auth/signup")).isPositive();
+        assertThat(rateLimiter.tryAcquire("10.0.0.2", null, "/api/authx")).isEqualTo(RateLimiter.ALLOWED);
+    }
+
+    @Test
+    void 오래_사용하지_않은_버킷은_제거되어_가득_찬_상태로_다시_시작한다() throws InterruptedException {
+        RateLimitProperties properties = properties();
+        properties.setIdleTimeout(Duration.ofMillis(50));
+        RateLimiter rateLimiter = rateLimiter(properties);
+
+        assertAllowed(rateLimiter, 2, ADDRESS, null, "/api/board");
+        assertThat(rateLimiter.tryAcquire(ADDRESS, null, "/api/board")).isPositive();
+
+        Thread.sleep(200);
+
+        assertAllowed(rateLimiter, 2, ADDRESS, null, "/api/board");
+    }
+
+    private RateLimiter rateLimiter(RateLimitProperties properties) {
+        return new RateLimiter(properties, meterRegistry);
+    }
+
+    private static void assertAllowed(RateLimiter rateLimiter, int count, String key, Role role, String path) {
+        for (int i = 0; i < count; i++) {
+            assertThat(rateLimiter.tryAcquire(key, role, path)).isEqualTo(RateLimiter.ALLOWED);
+        }
+    }
+
+    // 익명 2개, USER 4개, ADMIN 은 한도 없음
+    private static RateLimitProperties properties() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setAnonymous(limit(2));
+        properties.getRoles().put(Role.USER, limit(4));
+        return properties;
+    }
+
+    private static RateLimitProperties.Limit limit(int burst) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setRequestsPerSecond(NO_REFILL);
+        limit.setBurst(burst);
+        return limit;
+    }
+
+    private static RateLimitProperties.Endpoint endpoint(String path, int burst) {
+        RateLimitProperties.Endpoint endpoint = new RateLimitProperties.Endpoint();
+        endpoint.setPath(path);
+        endpoint.setRequestsPerSecond(NO_REFILL);
+        endpoint.setBurst(burst);
+        return endpoint;
+    }
+}
@@ -0,0 +1,22 @@
+package gabia.hiring.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿼리 예산 검사
+ * 블록 안에서 실행된 SQL 수가 예산을 넘으면 테스트 실패 (N+1 회귀 방지)
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static void assertAtMost(int budget, Runnable block) {
+        QueryCountInspector.reset();
+        block.run();
+
+        assertThat(QueryCountInspector.count())
+                .as("실행된 SQL 수가 쿼리 예산(%d)을 넘었습니다", budget)
+                .isLessThanOrEqualTo(budget);
+    }
+}
@@ -0,0 +1,27 @@
+package gabia.hiring.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 테스트용 SQL 실행 횟수 카운터
+ * hibernate.session_factory.statement_inspector 로 등록하면 Hibernate가 준비하는 모든 SQL을 셈
+ * (현재 스레드 기준으로 세므로 테스트 메서드 하나를 한 요청 단위로 측정)
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<Integer> COUNT = ThreadLocal.withInitial(() -> 0);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.set(COUNT.get() + 1);
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+}